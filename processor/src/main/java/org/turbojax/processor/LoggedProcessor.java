@@ -0,0 +1,565 @@
+package org.turbojax.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a logger class for every class with {@code @Logged} fields.
+ *
+ * <p>
+ * For a class {@code ModuleInputs}, this makes {@code ModuleInputsLogger} in
+ * the same package. Its {@code log(inputs)} method logs each field with a
+ * direct call into a {@code LogScope}, so nothing is looked up with
+ * reflection when the robot starts. Nested classes are named after their
+ * enclosing classes, like {@code Drive_ModuleInputsLogger}. Classes that only
+ * inherit their {@code @Logged} fields get a logger too.
+ *
+ * <p>
+ * A field whose class has logged fields is logged by that class's logger. If
+ * the class comes from a library that wasn't built with this processor, there
+ * is no logger to call, so the field is logged with
+ * {@code LogScope.logObject} instead.
+ *
+ * <p>
+ * The generated code reads the fields directly, so they can't be private
+ * unless they belong to a record. Fields that can't be read or logged are
+ * skipped with a warning.
+ */
+@SupportedAnnotationTypes(LoggedProcessor.LOGGED)
+public class LoggedProcessor extends AbstractProcessor {
+    static final String LOGGED = "org.turbojax.Logged";
+    private static final String STRUCT_SERIALIZABLE = "edu.wpi.first.util.struct.StructSerializable";
+
+    // The classes that have a logger from this compilation, so later rounds don't
+    // make them again
+    private final Set<String> generated = new HashSet<>();
+
+    /** How a field's value is logged. */
+    private enum Kind {
+        // Logged straight from the field
+        PRIMITIVE,
+
+        // Logged if it isn't null
+        REFERENCE,
+
+        // Logged by the field type's own generated logger
+        NESTED,
+
+        // Logged with LogScope.logObject, for types without a generated logger
+        OBJECT
+    }
+
+    /** A field to log. */
+    private record LoggedField(String leaf, String name, String access, String type, Kind kind) {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement logged = processingEnv.getElementUtils().getTypeElement(LOGGED);
+        if (logged == null) {
+            return false;
+        }
+
+        // Finding every class that declares a logged field
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (VariableElement field : ElementFilter.fieldsIn(roundEnv.getElementsAnnotatedWith(logged))) {
+            if (field.getEnclosingElement() instanceof TypeElement type) {
+                types.add(type);
+            }
+        }
+
+        // Adding the classes that only inherit logged fields, so loggers that log
+        // them as a field have a logger to call
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            addInheriting(type, types);
+        }
+
+        // Recording every logger before writing any, so a logger can use one that
+        // is written after it
+        List<TypeElement> fresh = new ArrayList<>();
+        for (TypeElement type : types) {
+            if (!isAccessible(type)) {
+                warn(type, "Cannot generate a logger for " + type.getSimpleName()
+                        + " because it is private, local, or anonymous.");
+            } else if (generated.add(type.getQualifiedName().toString())) {
+                fresh.add(type);
+            }
+        }
+
+        for (TypeElement type : fresh) {
+            generate(type);
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds a class and the classes nested in it to a set if they have logged
+     * fields, including ones they inherit.
+     *
+     * @param type  The class to check.
+     * @param types The set to add to.
+     */
+    private void addInheriting(TypeElement type, Set<TypeElement> types) {
+        if (hasLoggedFields(type)) {
+            types.add(type);
+        }
+
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            addInheriting(nested, types);
+        }
+    }
+
+    /**
+     * Writes the logger for a class.
+     *
+     * @param type The class to write the logger for.
+     */
+    private void generate(TypeElement type) {
+        String packageName = packageOf(type).getQualifiedName().toString();
+        String loggerName = loggerName(type);
+        String typeName = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+        List<LoggedField> fields = fields(type, packageName);
+
+        String qualifiedName = packageName.isEmpty() ? loggerName : packageName + "." + loggerName;
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (PrintWriter out = new PrintWriter(file.openWriter())) {
+                write(out, packageName, loggerName, typeName, fields);
+            }
+        } catch (IOException err) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write " + qualifiedName + ": " + err.getMessage(), type);
+        }
+    }
+
+    /**
+     * Writes the source of a logger.
+     *
+     * @param out         Where to write the source.
+     * @param packageName The package of the logged class.
+     * @param loggerName  The name of the logger class.
+     * @param typeName    The name of the logged class.
+     * @param fields      The fields to log.
+     */
+    private void write(PrintWriter out, String packageName, String loggerName, String typeName,
+            List<LoggedField> fields) {
+        if (!packageName.isEmpty()) {
+            out.println("package " + packageName + ";");
+            out.println();
+        }
+
+        out.println("/**");
+        out.println(" * Logs the {@code @Logged} fields of {@link " + typeName + "}.");
+        out.println(" */");
+        out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+        out.println("public final class " + loggerName + " {");
+        out.println("    private final org.turbojax.LogScope scope;");
+
+        // Nested loggers are made the first time they are used, so a class that
+        // contains itself doesn't make loggers forever
+        for (LoggedField field : fields) {
+            if (field.kind() == Kind.NESTED) {
+                out.println("    private " + nestedLoggerName(field) + " " + field.name() + "Logger;");
+            } else if (field.kind() == Kind.OBJECT) {
+                out.println("    private org.turbojax.LogScope " + field.name() + "Scope;");
+            }
+        }
+
+        out.println();
+        out.println("    /**");
+        out.println("     * Creates a logger that logs under a prefix.");
+        out.println("     *");
+        out.println("     * @param prefix The prefix to log the fields under.");
+        out.println("     */");
+        out.println("    public " + loggerName + "(String prefix) {");
+        out.println("        this(org.turbojax.TurboLogger.scope(prefix));");
+        out.println("    }");
+        out.println();
+        out.println("    /**");
+        out.println("     * Creates a logger that logs in a scope.");
+        out.println("     *");
+        out.println("     * @param scope The scope to log the fields in.");
+        out.println("     */");
+        out.println("    public " + loggerName + "(org.turbojax.LogScope scope) {");
+        out.println("        this.scope = scope;");
+        out.println("    }");
+        out.println();
+        out.println("    /**");
+        out.println("     * Logs every {@code @Logged} field of an object.");
+        out.println("     *");
+        out.println("     * @param object The object to log.");
+        out.println("     */");
+        out.println("    public void log(" + typeName + " object) {");
+
+        for (LoggedField field : fields) {
+            String leaf = literal(field.leaf());
+
+            switch (field.kind()) {
+                case PRIMITIVE -> out.println("        scope.log(" + leaf + ", object." + field.access() + ");");
+                case REFERENCE -> {
+                    out.println("        {");
+                    out.println("            " + field.type() + " value = object." + field.access() + ";");
+                    out.println("            if (value != null) {");
+                    out.println("                scope.log(" + leaf + ", value);");
+                    out.println("            }");
+                    out.println("        }");
+                }
+                case NESTED -> {
+                    out.println("        {");
+                    out.println("            " + field.type() + " value = object." + field.access() + ";");
+                    out.println("            if (value != null) {");
+                    out.println("                if (" + field.name() + "Logger == null) {");
+                    out.println("                    " + field.name() + "Logger = new " + nestedLoggerName(field)
+                            + "(scope.scope(" + leaf + "));");
+                    out.println("                }");
+                    out.println("                " + field.name() + "Logger.log(value);");
+                    out.println("            }");
+                    out.println("        }");
+                }
+                case OBJECT -> {
+                    out.println("        {");
+                    out.println("            " + field.type() + " value = object." + field.access() + ";");
+                    out.println("            if (value != null) {");
+                    out.println("                if (" + field.name() + "Scope == null) {");
+                    out.println("                    " + field.name() + "Scope = scope.scope(" + leaf + ");");
+                    out.println("                }");
+                    out.println("                " + field.name() + "Scope.logObject(value);");
+                    out.println("            }");
+                    out.println("        }");
+                }
+            }
+        }
+
+        out.println("    }");
+        out.println("}");
+    }
+
+    /**
+     * Finds the logged fields of a class and its superclasses that the logger can
+     * read. Superclass fields hidden by a subclass field are skipped.
+     *
+     * @param type        The class to find the fields of.
+     * @param packageName The package the logger is in.
+     *
+     * @return The fields, in the same order {@code TurboLogger.logObject} logs
+     *         them.
+     */
+    private List<LoggedField> fields(TypeElement type, String packageName) {
+        List<LoggedField> fields = new ArrayList<>();
+
+        // The names of the fields declared by the subclasses already looked at. A
+        // superclass field with one of these names is hidden, so it isn't logged
+        // and object.name wouldn't read it anyways.
+        Set<String> hidden = new HashSet<>();
+
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            List<VariableElement> declared = ElementFilter.fieldsIn(current.getEnclosedElements());
+
+            for (VariableElement field : declared) {
+                AnnotationMirror annotation = loggedAnnotation(field);
+                String name = field.getSimpleName().toString();
+                if (annotation == null || field.getModifiers().contains(Modifier.STATIC) || hidden.contains(name)) {
+                    continue;
+                }
+
+                String access = access(current, field, packageName);
+                if (access == null) {
+                    warn(field, "Cannot log field \"" + name + "\" from " + loggerName(type)
+                            + " because it isn't visible from package \"" + packageName + "\".");
+                    continue;
+                }
+
+                Kind kind = kind(field.asType());
+                if (kind == null) {
+                    warn(field, "Cannot log field \"" + name + "\" because TurboLogger can't log " + field.asType()
+                            + ".");
+                    continue;
+                }
+
+                String typeName = processingEnv.getTypeUtils().erasure(field.asType()).toString();
+                fields.add(new LoggedField(leaf(annotation, name), name, access, typeName, kind));
+            }
+
+            for (VariableElement field : declared) {
+                hidden.add(field.getSimpleName().toString());
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * Works out how a field is read from the logger.
+     *
+     * @param owner       The class that declares the field.
+     * @param field       The field.
+     * @param packageName The package the logger is in.
+     *
+     * @return The expression after {@code object.}, or null if the logger can't
+     *         read the field.
+     */
+    private String access(TypeElement owner, VariableElement field, String packageName) {
+        Set<Modifier> modifiers = field.getModifiers();
+        String name = field.getSimpleName().toString();
+
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            // Records have a public accessor for each of their fields
+            return owner.getKind() == ElementKind.RECORD ? name + "()" : null;
+        } else if (modifiers.contains(Modifier.PUBLIC)) {
+            return name;
+        }
+
+        // Package private and protected fields can only be read from the same package
+        return packageOf(owner).getQualifiedName().contentEquals(packageName) ? name : null;
+    }
+
+    /**
+     * Works out how a value of a type is logged.
+     *
+     * @param type The type.
+     *
+     * @return How to log it, or null if TurboLogger can't log it.
+     */
+    private Kind kind(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case DOUBLE:
+            case FLOAT:
+            case INT:
+            case LONG:
+                return Kind.PRIMITIVE;
+            case ARRAY:
+                TypeMirror component = ((ArrayType) type).getComponentType();
+                return isArrayComponent(component) ? Kind.REFERENCE : null;
+            case DECLARED:
+                if (isString(type) || isStruct(type)) {
+                    return Kind.REFERENCE;
+                }
+
+                TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+                if (!hasLoggedFields(element) || !isAccessible(element)) {
+                    return null;
+                }
+
+                return hasLogger(element) ? Kind.NESTED : Kind.OBJECT;
+            default:
+                return null;
+        }
+    }
+
+    private boolean isArrayComponent(TypeMirror component) {
+        switch (component.getKind()) {
+            case BOOLEAN:
+            case DOUBLE:
+            case FLOAT:
+            case INT:
+            case LONG:
+                return true;
+            case DECLARED:
+                return isString(component) || isStruct(component);
+            default:
+                return false;
+        }
+    }
+
+    private boolean isString(TypeMirror type) {
+        TypeElement string = processingEnv.getElementUtils().getTypeElement("java.lang.String");
+        return processingEnv.getTypeUtils().isSameType(type, string.asType());
+    }
+
+    private boolean isStruct(TypeMirror type) {
+        TypeElement struct = processingEnv.getElementUtils().getTypeElement(STRUCT_SERIALIZABLE);
+        if (struct == null) {
+            return false;
+        }
+
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type),
+                struct.asType());
+    }
+
+    /**
+     * Checks if a class or any of its superclasses has a logged field.
+     *
+     * @param type The class to check.
+     *
+     * @return Whether or not the class has a logged field.
+     */
+    private boolean hasLoggedFields(TypeElement type) {
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (loggedAnnotation(field) != null && !field.getModifiers().contains(Modifier.STATIC)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if a class has a generated logger, either from this compilation or
+     * from a library that was built with this processor.
+     *
+     * @param type The class to check.
+     *
+     * @return Whether or not the logger exists.
+     */
+    private boolean hasLogger(TypeElement type) {
+        if (generated.contains(type.getQualifiedName().toString())) {
+            return true;
+        }
+
+        String packageName = packageOf(type).getQualifiedName().toString();
+        String loggerName = packageName.isEmpty() ? loggerName(type) : packageName + "." + loggerName(type);
+        return processingEnv.getElementUtils().getTypeElement(loggerName) != null;
+    }
+
+    private AnnotationMirror loggedAnnotation(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(LOGGED)) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the key a field is logged under.
+     *
+     * @param annotation The field's {@code @Logged} annotation.
+     * @param name       The field's name.
+     *
+     * @return The name given in the annotation, or the field's name if there
+     *         isn't one.
+     */
+    private String leaf(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues()
+                .entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                String value = (String) entry.getValue().getValue();
+                return value.isEmpty() ? name : value;
+            }
+        }
+
+        return name;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    /**
+     * Checks if code in the same package can name a class.
+     *
+     * @param type The class to check.
+     *
+     * @return Whether or not the class and every class it is nested in can be
+     *         named.
+     */
+    private boolean isAccessible(TypeElement type) {
+        for (Element current = type; current instanceof TypeElement element; current = current
+                .getEnclosingElement()) {
+            if (element.getNestingKind() == NestingKind.LOCAL || element.getNestingKind() == NestingKind.ANONYMOUS
+                    || element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the name of the logger for a class, like
+     * {@code Drive_ModuleInputsLogger} for {@code Drive.ModuleInputs}.
+     *
+     * @param type The class.
+     *
+     * @return The logger's simple name.
+     */
+    private String loggerName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        for (Element current = type.getEnclosingElement(); current instanceof TypeElement element; current = current
+                .getEnclosingElement()) {
+            name = element.getSimpleName() + "_" + name;
+        }
+
+        return name + "Logger";
+    }
+
+    private String nestedLoggerName(LoggedField field) {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(field.type());
+        String packageName = packageOf(type).getQualifiedName().toString();
+        return packageName.isEmpty() ? loggerName(type) : packageName + "." + loggerName(type);
+    }
+
+    private PackageElement packageOf(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    private void warn(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    /**
+     * Turns a string into a Java string literal.
+     *
+     * @param value The string.
+     *
+     * @return The literal, with quotes.
+     */
+    private static String literal(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                default -> builder.append(c);
+            }
+        }
+
+        return builder.append('"').toString();
+    }
+}
@@ -0,0 +1,45 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures how the cost of a log call changes as more aliases are registered.
+ * Only two of the aliases point at the path being logged, so the time per call
+ * should stay flat no matter how many aliases exist.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AliasScalingBenchmark {
+    @Param({ "10", "100", "1000", "10000" })
+    public int aliasCount;
+
+    private double value;
+
+    @Setup
+    public void setup() {
+        // Running NT locally so the benchmark doesn't need a robot or a server
+        NetworkTableInstance.getDefault().startLocal();
+
+        // Aliases for the path being logged
+        TurboLogger.addAlias("Bench/Aliased", "benchAlias1");
+        TurboLogger.addAlias("Bench/Aliased", "benchAlias2");
+
+        // Aliases for other paths that the log call shouldn't have to look at
+        for (int i = 0; i < aliasCount; i++) {
+            TurboLogger.addAlias("Bench/Other/" + i, "benchOther" + i);
+        }
+    }
+
+    @Benchmark
+    public void logWithAliases() {
+        value++;
+
+        TurboLogger.log("Bench/Aliased", value);
+    }
+}
@@ -0,0 +1,55 @@
+package org.turbojax;
+
+import edu.wpi.first.util.struct.Struct;
+import edu.wpi.first.util.struct.StructSerializable;
+import java.nio.ByteBuffer;
+
+/**
+ * A small struct for the benchmarks, so they don't need WPIMath just to log a
+ * struct.
+ */
+public class BenchPoint implements StructSerializable {
+    public static final BenchPointStruct struct = new BenchPointStruct();
+
+    public final double x;
+    public final double y;
+
+    public BenchPoint(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /** Serializes {@link BenchPoint} as two doubles. */
+    public static class BenchPointStruct implements Struct<BenchPoint> {
+        @Override
+        public Class<BenchPoint> getTypeClass() {
+            return BenchPoint.class;
+        }
+
+        @Override
+        public String getTypeName() {
+            return "BenchPoint";
+        }
+
+        @Override
+        public int getSize() {
+            return kSizeDouble * 2;
+        }
+
+        @Override
+        public String getSchema() {
+            return "double x;double y";
+        }
+
+        @Override
+        public BenchPoint unpack(ByteBuffer bb) {
+            return new BenchPoint(bb.getDouble(), bb.getDouble());
+        }
+
+        @Override
+        public void pack(ByteBuffer bb, BenchPoint value) {
+            bb.putDouble(value.x);
+            bb.putDouble(value.y);
+        }
+    }
+}
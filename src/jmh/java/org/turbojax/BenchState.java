@@ -0,0 +1,16 @@
+package org.turbojax;
+
+import edu.wpi.first.util.struct.StructSerializable;
+
+/**
+ * A record with no struct field, so TurboLogger makes its struct from its
+ * components.
+ *
+ * @param position The position.
+ * @param velocity The velocity.
+ * @param enabled  Whether the mechanism is enabled.
+ * @param target   The target point.
+ */
+public record BenchState(double position, double velocity, boolean enabled, BenchPoint target)
+        implements StructSerializable {
+}
@@ -0,0 +1,126 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures TurboLogger's throughput when it is used from 1 to 8 threads at
+ * once.
+ *
+ * <p>
+ * The "own key" benchmarks have each thread log to its own path, like separate
+ * subsystems would. The "shared key" benchmarks have every thread log to the
+ * same path, which is the worst case for contention. The "mixed" group runs
+ * logs, gets, hasChanged checks and alias changes against the same path all at
+ * once as a stress run of the internal maps.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrencyBenchmark {
+    @State(Scope.Benchmark)
+    public static class NT {
+        private final AtomicInteger nextThread = new AtomicInteger();
+
+        @Setup
+        public void setup() {
+            // Running NT locally so the benchmark doesn't need a robot or a server
+            NetworkTableInstance.getDefault().startLocal();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadKey {
+        private String key;
+        private String alias;
+        private double value;
+
+        @Setup
+        public void setup(NT nt) {
+            int thread = nt.nextThread.getAndIncrement();
+            key = "Bench/Threads/" + thread;
+            alias = "benchThreadAlias" + thread;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void ownKey1(ThreadKey state) {
+        TurboLogger.log(state.key, state.value++);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void ownKey2(ThreadKey state) {
+        TurboLogger.log(state.key, state.value++);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void ownKey4(ThreadKey state) {
+        TurboLogger.log(state.key, state.value++);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void ownKey8(ThreadKey state) {
+        TurboLogger.log(state.key, state.value++);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void sharedKey1(ThreadKey state) {
+        TurboLogger.log("Bench/Threads/Shared", state.value++);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void sharedKey2(ThreadKey state) {
+        TurboLogger.log("Bench/Threads/Shared", state.value++);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void sharedKey4(ThreadKey state) {
+        TurboLogger.log("Bench/Threads/Shared", state.value++);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void sharedKey8(ThreadKey state) {
+        TurboLogger.log("Bench/Threads/Shared", state.value++);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public void mixedLog(ThreadKey state) {
+        TurboLogger.log("Bench/Threads/Mixed", state.value++);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public double mixedGet() {
+        return TurboLogger.get("Bench/Threads/Mixed", 0.0);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public boolean mixedHasChanged() {
+        return TurboLogger.hasChanged("Bench/Threads/Mixed");
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void mixedAliases(ThreadKey state) {
+        TurboLogger.addAlias("Bench/Threads/Mixed", state.alias);
+        TurboLogger.removeAlias(state.alias);
+    }
+}
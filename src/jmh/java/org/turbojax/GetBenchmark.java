@@ -0,0 +1,133 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures each {@code TurboLogger.get} overload, plus
+ * {@code TurboLogger.hasChanged}, on keys that already hold a value.
+ *
+ * <p>
+ * Run with the GC profiler (on by default in build.gradle) to see the bytes
+ * allocated per read as well as the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetBenchmark {
+    private final boolean[] booleans = new boolean[0];
+    private final double[] doubles = new double[0];
+    private final float[] floats = new float[0];
+    private final int[] ints = new int[0];
+    private final int[] intDest = new int[4];
+    private final long[] longs = new long[0];
+    private final String[] strings = new String[0];
+    private final BenchPoint point = new BenchPoint(0, 0);
+    private final BenchPoint[] points = new BenchPoint[0];
+
+    @Setup
+    public void setup() {
+        // Running NT locally so the benchmark doesn't need a robot or a server
+        NetworkTableInstance.getDefault().startLocal();
+
+        // Giving every key a value to read
+        TurboLogger.log("Bench/Get/Boolean", true);
+        TurboLogger.log("Bench/Get/BooleanArray", new boolean[] { true, false, true, false });
+        TurboLogger.log("Bench/Get/Double", 1.0);
+        TurboLogger.log("Bench/Get/DoubleArray", new double[] { 1.0, 2.0, 3.0, 4.0 });
+        TurboLogger.log("Bench/Get/Float", 1.0f);
+        TurboLogger.log("Bench/Get/FloatArray", new float[] { 1.0f, 2.0f, 3.0f, 4.0f });
+        TurboLogger.log("Bench/Get/Int", 1);
+        TurboLogger.log("Bench/Get/IntArray", new int[] { 1, 2, 3, 4 });
+        TurboLogger.log("Bench/Get/Long", 1L);
+        TurboLogger.log("Bench/Get/LongArray", new long[] { 1L, 2L, 3L, 4L });
+        TurboLogger.log("Bench/Get/String", "Teleop");
+        TurboLogger.log("Bench/Get/StringArray", new String[] { "a", "b", "c", "d" });
+        TurboLogger.log("Bench/Get/Struct", new BenchPoint(1, 2));
+        TurboLogger.log("Bench/Get/StructArray", new BenchPoint[] { new BenchPoint(1, 2), new BenchPoint(3, 4) });
+    }
+
+    @Benchmark
+    public boolean getBoolean() {
+        return TurboLogger.get("Bench/Get/Boolean", false);
+    }
+
+    @Benchmark
+    public boolean[] getBooleanArray() {
+        return TurboLogger.get("Bench/Get/BooleanArray", booleans);
+    }
+
+    @Benchmark
+    public double getDouble() {
+        return TurboLogger.get("Bench/Get/Double", 0.0);
+    }
+
+    @Benchmark
+    public double[] getDoubleArray() {
+        return TurboLogger.get("Bench/Get/DoubleArray", doubles);
+    }
+
+    @Benchmark
+    public float getFloat() {
+        return TurboLogger.get("Bench/Get/Float", 0.0f);
+    }
+
+    @Benchmark
+    public float[] getFloatArray() {
+        return TurboLogger.get("Bench/Get/FloatArray", floats);
+    }
+
+    @Benchmark
+    public int getInt() {
+        return TurboLogger.get("Bench/Get/Int", 0);
+    }
+
+    @Benchmark
+    public int[] getIntArray() {
+        return TurboLogger.get("Bench/Get/IntArray", ints);
+    }
+
+    @Benchmark
+    public int getIntArrayInto() {
+        return TurboLogger.getInto("Bench/Get/IntArray", intDest);
+    }
+
+    @Benchmark
+    public long getLong() {
+        return TurboLogger.get("Bench/Get/Long", 0L);
+    }
+
+    @Benchmark
+    public long[] getLongArray() {
+        return TurboLogger.get("Bench/Get/LongArray", longs);
+    }
+
+    @Benchmark
+    public String getString() {
+        return TurboLogger.get("Bench/Get/String", "");
+    }
+
+    @Benchmark
+    public String[] getStringArray() {
+        return TurboLogger.get("Bench/Get/StringArray", strings);
+    }
+
+    @Benchmark
+    public BenchPoint getStruct() {
+        return TurboLogger.get("Bench/Get/Struct", point);
+    }
+
+    @Benchmark
+    public BenchPoint[] getStructArray() {
+        return TurboLogger.get("Bench/Get/StructArray", points);
+    }
+
+    @Benchmark
+    public boolean hasChanged() {
+        return TurboLogger.hasChanged("Bench/Get/Double");
+    }
+}
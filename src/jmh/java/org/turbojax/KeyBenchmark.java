@@ -0,0 +1,44 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the calls that change which keys TurboLogger knows about. These
+ * aren't usually in the robot loop, but they shouldn't get slower without
+ * anyone noticing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyBenchmark {
+    private double value;
+
+    @Setup
+    public void setup() {
+        // Running NT locally so the benchmark doesn't need a robot or a server
+        NetworkTableInstance.getDefault().startLocal();
+        TurboLogger.log("Bench/Keys/Aliased", 0.0);
+    }
+
+    /** Adds an alias to a path that has a handle, then removes it again. */
+    @Benchmark
+    public void addAndRemoveAlias() {
+        TurboLogger.addAlias("Bench/Keys/Aliased", "benchKeysAlias");
+        TurboLogger.removeAlias("benchKeysAlias");
+    }
+
+    /**
+     * Logs to a new path and removes it, which creates and closes the path's
+     * publisher each time.
+     */
+    @Benchmark
+    public void logAndRemove() {
+        TurboLogger.log("Bench/Keys/Removed", value++);
+        TurboLogger.remove("Bench/Keys/Removed");
+    }
+}
@@ -0,0 +1,129 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures each {@code TurboLogger.log} overload on a key that has already been
+ * logged to, which is the path every robot loop takes.
+ *
+ * <p>
+ * Run with the GC profiler (on by default in build.gradle) to see the bytes
+ * allocated per log call as well as the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogBenchmark {
+    private boolean booleanValue;
+    private double doubleValue;
+    private float floatValue;
+    private int intValue;
+    private long longValue;
+
+    private final boolean[] booleans = { true, false, true, false };
+    private final double[] doubles = { 1.0, 2.0, 3.0, 4.0 };
+    private final float[] floats = { 1.0f, 2.0f, 3.0f, 4.0f };
+    private final int[] ints = { 1, 2, 3, 4 };
+    private final long[] longs = { 1L, 2L, 3L, 4L };
+    private final String[] strings = { "a", "b", "c", "d" };
+    private final String[] modes = { "Disabled", "Teleop" };
+    private final BenchPoint[] points = { new BenchPoint(1, 2), new BenchPoint(3, 4) };
+    private final BenchState[] states = { new BenchState(1, 2, true, points[0]),
+            new BenchState(3, 4, false, points[1]) };
+
+    @Setup
+    public void setup() {
+        // Running NT locally so the benchmark doesn't need a robot or a server
+        NetworkTableInstance.getDefault().startLocal();
+    }
+
+    @Benchmark
+    public void logBoolean() {
+        booleanValue = !booleanValue;
+        TurboLogger.log("Bench/Log/Boolean", booleanValue);
+    }
+
+    @Benchmark
+    public void logBooleanArray() {
+        booleans[0] = !booleans[0];
+        TurboLogger.log("Bench/Log/BooleanArray", booleans);
+    }
+
+    @Benchmark
+    public void logDouble() {
+        TurboLogger.log("Bench/Log/Double", doubleValue++);
+    }
+
+    @Benchmark
+    public void logDoubleArray() {
+        doubles[0]++;
+        TurboLogger.log("Bench/Log/DoubleArray", doubles);
+    }
+
+    @Benchmark
+    public void logFloat() {
+        TurboLogger.log("Bench/Log/Float", floatValue++);
+    }
+
+    @Benchmark
+    public void logFloatArray() {
+        floats[0]++;
+        TurboLogger.log("Bench/Log/FloatArray", floats);
+    }
+
+    @Benchmark
+    public void logInt() {
+        TurboLogger.log("Bench/Log/Int", intValue++);
+    }
+
+    @Benchmark
+    public void logIntArray() {
+        ints[0]++;
+        TurboLogger.log("Bench/Log/IntArray", ints);
+    }
+
+    @Benchmark
+    public void logLong() {
+        TurboLogger.log("Bench/Log/Long", longValue++);
+    }
+
+    @Benchmark
+    public void logLongArray() {
+        longs[0]++;
+        TurboLogger.log("Bench/Log/LongArray", longs);
+    }
+
+    @Benchmark
+    public void logString() {
+        TurboLogger.log("Bench/Log/String", modes[intValue++ & 1]);
+    }
+
+    @Benchmark
+    public void logStringArray() {
+        strings[0] = modes[intValue++ & 1];
+        TurboLogger.log("Bench/Log/StringArray", strings);
+    }
+
+    @Benchmark
+    public void logStruct() {
+        TurboLogger.log("Bench/Log/Struct", points[intValue++ & 1]);
+    }
+
+    @Benchmark
+    public void logStructArray() {
+        BenchPoint first = points[0];
+        points[0] = points[1];
+        points[1] = first;
+        TurboLogger.log("Bench/Log/StructArray", points);
+    }
+
+    @Benchmark
+    public void logRecordStruct() {
+        TurboLogger.log("Bench/Log/RecordStruct", states[intValue++ & 1]);
+    }
+}
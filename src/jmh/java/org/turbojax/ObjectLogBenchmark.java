@@ -0,0 +1,92 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares logging an inputs object with {@code TurboLogger.logObject} and with
+ * the logger made by the annotation processor against logging each of its
+ * fields by hand, both with string keys and through a {@link LogScope}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectLogBenchmark {
+    /** An inputs class like a subsystem would log every loop. */
+    public static class Inputs {
+        @Logged
+        public double position;
+
+        @Logged
+        public double velocity;
+
+        @Logged
+        public double current;
+
+        @Logged
+        public boolean connected = true;
+
+        @Logged
+        public long faults;
+
+        @Logged
+        public BenchPoint target = new BenchPoint(1, 2);
+    }
+
+    private final Inputs inputs = new Inputs();
+    private LogScope scope;
+    private ObjectLogBenchmark_InputsLogger generated;
+
+    @Setup
+    public void setup() {
+        // Running NT locally so the benchmark doesn't need a robot or a server
+        NetworkTableInstance.getDefault().startLocal();
+        scope = TurboLogger.scope("Bench/Object");
+        generated = new ObjectLogBenchmark_InputsLogger(scope);
+    }
+
+    private void update() {
+        inputs.position++;
+        inputs.velocity++;
+        inputs.current++;
+        inputs.faults++;
+    }
+
+    @Benchmark
+    public void handWritten() {
+        update();
+        TurboLogger.log("Bench/Object/position", inputs.position);
+        TurboLogger.log("Bench/Object/velocity", inputs.velocity);
+        TurboLogger.log("Bench/Object/current", inputs.current);
+        TurboLogger.log("Bench/Object/connected", inputs.connected);
+        TurboLogger.log("Bench/Object/faults", inputs.faults);
+        TurboLogger.log("Bench/Object/target", inputs.target);
+    }
+
+    @Benchmark
+    public void handWrittenScope() {
+        update();
+        scope.log("position", inputs.position);
+        scope.log("velocity", inputs.velocity);
+        scope.log("current", inputs.current);
+        scope.log("connected", inputs.connected);
+        scope.log("faults", inputs.faults);
+        scope.log("target", inputs.target);
+    }
+
+    @Benchmark
+    public void logObject() {
+        update();
+        TurboLogger.logObject("Bench/Object", inputs);
+    }
+
+    @Benchmark
+    public void generatedLogger() {
+        update();
+        generated.log(inputs);
+    }
+}
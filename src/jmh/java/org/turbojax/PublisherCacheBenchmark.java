@@ -0,0 +1,51 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.GenericPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.NetworkTableValue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the per-call cost of creating a publisher on every log (the old
+ * behavior) against logging through TurboLogger's cached publishers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublisherCacheBenchmark {
+    private NetworkTable table;
+    private double value;
+
+    @Setup
+    public void setup() {
+        // Running NT locally so the benchmark doesn't need a robot or a server
+        NetworkTableInstance.getDefault().startLocal();
+        table = NetworkTableInstance.getDefault().getTable("TurboLogger");
+    }
+
+    /**
+     * Creates a publisher for every value, like genericLog used to. The publisher
+     * is closed afterwards so the benchmark doesn't run out of native handles.
+     */
+    @Benchmark
+    public void uncachedPublish() {
+        value++;
+
+        try (GenericPublisher pub = table.getTopic("Bench/Uncached").genericPublish("double")) {
+            pub.set(NetworkTableValue.makeDouble(value));
+        }
+    }
+
+    /** Logs through TurboLogger, which reuses one publisher for the path. */
+    @Benchmark
+    public void cachedLog() {
+        value++;
+
+        TurboLogger.log("Bench/Cached", value);
+    }
+}
@@ -0,0 +1,38 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares building a key by concatenation on every log, like subsystems often
+ * do, against logging the same key through a {@link LogScope}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScopeBenchmark {
+    private String module = "FL";
+    private LogScope scope;
+    private double value;
+
+    @Setup
+    public void setup() {
+        // Running NT locally so the benchmark doesn't need a robot or a server
+        NetworkTableInstance.getDefault().startLocal();
+        scope = TurboLogger.scope("Bench/Scope/" + module);
+    }
+
+    @Benchmark
+    public void concatenatedKey() {
+        TurboLogger.log("Bench/Scope/" + module + "/Velocity", value++);
+    }
+
+    @Benchmark
+    public void scopedKey() {
+        scope.log("Velocity", value++);
+    }
+}
@@ -0,0 +1,304 @@
+package org.turbojax;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Queues logged values so that they can be published to NetworkTables on a
+ * background thread instead of the caller's thread.
+ *
+ * <p>
+ * The queue is a fixed size ring buffer that is allocated once. Each slot has a
+ * sequence number that says whether it is ready to be written or read, so any
+ * number of threads can log at once without a lock. With only one thread
+ * logging, a log call costs one uncontended compare-and-set.
+ */
+final class AsyncLogger {
+    // How long the drain thread sleeps for when the queue is empty
+    private static final long IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+    // How many times a BLOCK caller spins on a full queue before it parks, and
+    // how long it parks for between tries
+    private static final int BLOCK_SPINS = 100;
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int capacity;
+    private final int mask;
+    private final OverflowPolicy policy;
+
+    // The slots. A value lives in the same index of each array.
+    private final AtomicLongArray sequences;
+    private final LogHandle[] slotHandles;
+    private final long[] slotBits;
+    private final Object[] slotRefs;
+    private final long[] slotTimes;
+
+    private final AtomicLong enqueuePos = new AtomicLong();
+    private final AtomicLong dequeuePos = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Thread drainThread;
+    private volatile boolean running = true;
+
+    // The number of callers inside enqueue. stop() waits for this to reach 0
+    // before the final drain, so a value offered just as the logger stops is
+    // still published.
+    private final AtomicInteger writers = new AtomicInteger();
+
+    /**
+     * Creates the queue and starts its drain thread.
+     *
+     * @param capacity The number of values the queue can hold. This is rounded up
+     *                 to the next power of two.
+     * @param policy   What to do when a value is logged while the queue is full.
+     */
+    AsyncLogger(int capacity, OverflowPolicy policy) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Async queue capacity must be between 1 and 2^30, got " + capacity);
+        }
+
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+
+        this.capacity = size;
+        this.mask = this.capacity - 1;
+        this.policy = policy;
+
+        sequences = new AtomicLongArray(this.capacity);
+        slotHandles = new LogHandle[this.capacity];
+        slotBits = new long[this.capacity];
+        slotRefs = new Object[this.capacity];
+        slotTimes = new long[this.capacity];
+
+        // Each slot starts out ready to be written at its own index
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        drainThread = new Thread(this::drain, "TurboLogger async drain");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Queues a value to be published.
+     *
+     * @param handle The handle to publish the value through.
+     * @param bits   The packed value for primitive handles.
+     * @param ref    The value for array, string and struct handles.
+     * @param time   The NT time the value was logged at, in microseconds.
+     */
+    void enqueue(LogHandle handle, long bits, Object ref, long time) {
+        // Registering as a writer before checking running. Either this sees that
+        // the logger stopped, or the drain thread sees this writer and waits for
+        // it before its final drain.
+        writers.incrementAndGet();
+        try {
+            // Publishing on this thread if the logger was stopped after the caller
+            // found it
+            if (!running) {
+                handle.publish(bits, ref, time);
+                handle.markChanged();
+                return;
+            }
+
+            if (!offer(handle, bits, ref, time)) {
+                overflow(handle, bits, ref, time);
+            }
+        } finally {
+            writers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Handles a value that didn't fit in the queue, following the overflow
+     * policy.
+     *
+     * @param handle The handle to publish the value through.
+     * @param bits   The packed value for primitive handles.
+     * @param ref    The value for array, string and struct handles.
+     * @param time   The NT time the value was logged at, in microseconds.
+     */
+    private void overflow(LogHandle handle, long bits, Object ref, long time) {
+        switch (policy) {
+            case DROP_NEWEST:
+                // Letting the next value for the path through dedup, since this one
+                // never reaches NetworkTables
+                handle.owner.forgetLastValue();
+                dropped.incrementAndGet();
+                break;
+            case DROP_OLDEST:
+                do {
+                    if (poll(false)) {
+                        dropped.incrementAndGet();
+                    }
+                } while (!offer(handle, bits, ref, time));
+                break;
+            case BLOCK:
+                int spins = 0;
+                while (!offer(handle, bits, ref, time)) {
+                    // Publishing on this thread if nothing is left to make room
+                    if (!running) {
+                        handle.publish(bits, ref, time);
+                        handle.markChanged();
+                        return;
+                    }
+
+                    LockSupport.unpark(drainThread);
+
+                    // Spinning briefly in case the drain thread is about to free a
+                    // slot, then parking so a stuck queue doesn't burn the
+                    // caller's core
+                    if (spins < BLOCK_SPINS) {
+                        spins++;
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    }
+                }
+                break;
+        }
+    }
+
+    /**
+     * Gets the number of values that have been thrown away because the queue was
+     * full.
+     *
+     * @return The number of dropped values.
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops the drain thread after it publishes everything left in the queue.
+     */
+    void stop() {
+        running = false;
+        LockSupport.unpark(drainThread);
+
+        try {
+            drainThread.join();
+        } catch (InterruptedException err) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Tries to put a value in the next free slot.
+     *
+     * @return Whether or not the value was queued. This is false if the queue is
+     *         full.
+     */
+    private boolean offer(LogHandle handle, long bits, Object ref, long time) {
+        long pos = enqueuePos.get();
+
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+
+            if (diff == 0) {
+                if (enqueuePos.compareAndSet(pos, pos + 1)) {
+                    slotHandles[index] = handle;
+                    slotBits[index] = bits;
+                    slotRefs[index] = ref;
+                    slotTimes[index] = time;
+
+                    // Handing the slot to the reader
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+
+                pos = enqueuePos.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = enqueuePos.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest value out of the queue.
+     *
+     * @param publish Whether to publish the value or throw it away. A value that
+     *                is thrown away clears its path's dedup state.
+     *
+     * @return Whether or not there was a value to take.
+     */
+    private boolean poll(boolean publish) {
+        long pos = dequeuePos.get();
+
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - (pos + 1);
+
+            if (diff == 0) {
+                if (dequeuePos.compareAndSet(pos, pos + 1)) {
+                    LogHandle handle = slotHandles[index];
+                    long bits = slotBits[index];
+                    Object ref = slotRefs[index];
+                    long time = slotTimes[index];
+
+                    // Clearing the references so the values can be collected, then
+                    // handing the slot back to the writers
+                    slotHandles[index] = null;
+                    slotRefs[index] = null;
+                    sequences.set(index, pos + capacity);
+
+                    if (publish) {
+                        publish(handle, bits, ref, time);
+                    } else {
+                        handle.owner.forgetLastValue();
+                    }
+
+                    return true;
+                }
+
+                pos = dequeuePos.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = dequeuePos.get();
+            }
+        }
+    }
+
+    private void publish(LogHandle handle, long bits, Object ref, long time) {
+        try {
+            handle.publish(bits, ref, time);
+            handle.markChanged();
+        } catch (RuntimeException err) {
+            handle.owner.forgetLastValue();
+            if (TurboLogger.diagnostics.count(handle.id, Diagnostics.Kind.PUBLISH_FAILED)) {
+                TurboLogger.diagnostics.report(handle.id, Diagnostics.Kind.PUBLISH_FAILED,
+                        "Could not publish to \"" + handle.getKey() + "\": " + err);
+            }
+        }
+    }
+
+    /** Publishes queued values until the logger is stopped and the queue is empty. */
+    private void drain() {
+        while (running) {
+            if (!poll(true)) {
+                LockSupport.parkNanos(IDLE_NANOS);
+            }
+        }
+
+        // Waiting for callers that were already in enqueue when the logger
+        // stopped, so nothing they offer is left behind
+        while (writers.get() != 0) {
+            poll(true);
+            Thread.onSpinWait();
+        }
+
+        // Publishing anything that was logged before the logger stopped
+        while (poll(true)) {
+        }
+    }
+}
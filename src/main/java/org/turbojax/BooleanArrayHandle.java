@@ -0,0 +1,163 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.GenericPublisher;
+import edu.wpi.first.networktables.GenericSubscriber;
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.NetworkTableValue;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.Subscriber;
+import edu.wpi.first.networktables.Topic;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogEntry;
+import edu.wpi.first.util.datalog.BooleanArrayLogEntry;
+
+/** A {@link LogHandle} for boolean array values. */
+public final class BooleanArrayHandle extends LogHandle {
+    private final boolean[] defaultValue;
+
+    BooleanArrayHandle(String key, Topic topic, LogHandle owner, boolean[] defaultValue) {
+        super(key, NetworkTableType.kBooleanArray, topic, owner);
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    Publisher createPublisher() {
+        return topic.genericPublish(typeString);
+    }
+
+    @Override
+    Subscriber createSubscriber() {
+        return topic.genericSubscribe(typeString);
+    }
+
+    @Override
+    void publish(long bits, Object ref, long time) {
+        GenericPublisher pub = (GenericPublisher) publisher();
+        if (pub != null) {
+            pub.setBooleanArray((boolean[]) ref, time);
+        }
+    }
+
+    @Override
+    Object copy(Object ref) {
+        return ((boolean[]) ref).clone();
+    }
+
+    @Override
+    Object copyInto(Object ref, Object buffer) {
+        boolean[] value = (boolean[]) ref;
+        if (buffer instanceof boolean[] copy && copy.length == value.length) {
+            System.arraycopy(value, 0, copy, 0, value.length);
+            return copy;
+        }
+
+        return value.clone();
+    }
+
+    @Override
+    DataLogEntry createEntry(DataLog log, String name) {
+        return new BooleanArrayLogEntry(log, name);
+    }
+
+    @Override
+    void append(DataLogEntry entry, long bits, Object ref, long time) {
+        ((BooleanArrayLogEntry) entry).append((boolean[]) ref, time);
+    }
+
+    /**
+     * Logs a boolean array to NetworkTables.
+     *
+     * @param value The boolean array to log.
+     */
+    public void set(boolean[] value) {
+        write(0, value);
+    }
+
+    /**
+     * Logs a boolean array to NetworkTables with the time it was measured.
+     *
+     * @param value           The boolean array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void set(boolean[] value, long timestampMicros) {
+        write(0, value, timestampMicros);
+    }
+
+    /**
+     * Gets a boolean array from NetworkTables.
+     *
+     * @return The boolean array, or the handle's default value if nothing has been
+     *         published.
+     */
+    public boolean[] get() {
+        return get(defaultValue);
+    }
+
+    /**
+     * Gets a boolean array from NetworkTables.
+     *
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The boolean array referenced by the handle.
+     */
+    public boolean[] get(boolean[] defaultValue) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            return defaultValue;
+        }
+
+        markRead();
+
+        return sub.getBooleanArray(defaultValue);
+    }
+
+    /**
+     * Gets a boolean array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param dest The holder to fill. It is given the handle's default value if
+     *             nothing has been published.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(MutableTimestampedObject<boolean[]> dest) {
+        return getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a boolean array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * <p>
+     * NetworkTables makes a new object for the value each time it is read, so
+     * this still allocates once per call. The holder only saves the caller from
+     * making its own.
+     *
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(boolean[] defaultValue, MutableTimestampedObject<boolean[]> dest) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        markRead();
+
+        // Reading the value and its times in one call, so they are from the same
+        // update
+        NetworkTableValue value = sub.get();
+        if (value.getType() != type) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        dest.set(value.getBooleanArray(), value.getTime(), value.getServerTime());
+        return true;
+    }
+}
@@ -0,0 +1,198 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.GenericPublisher;
+import edu.wpi.first.networktables.GenericSubscriber;
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.NetworkTableValue;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.Subscriber;
+import edu.wpi.first.networktables.Topic;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogEntry;
+import edu.wpi.first.util.datalog.BooleanLogEntry;
+
+/** A {@link LogHandle} for boolean values. */
+public final class BooleanHandle extends LogHandle {
+    private final boolean defaultValue;
+
+    BooleanHandle(String key, Topic topic, LogHandle owner, boolean defaultValue) {
+        super(key, NetworkTableType.kBoolean, topic, owner);
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    Publisher createPublisher() {
+        return topic.genericPublish(typeString);
+    }
+
+    @Override
+    Subscriber createSubscriber() {
+        return topic.genericSubscribe(typeString);
+    }
+
+    @Override
+    void publish(long bits, Object ref, long time) {
+        GenericPublisher pub = (GenericPublisher) publisher();
+        if (pub != null) {
+            pub.setBoolean(bits != 0, time);
+        }
+    }
+
+    @Override
+    DataLogEntry createEntry(DataLog log, String name) {
+        return new BooleanLogEntry(log, name);
+    }
+
+    @Override
+    void append(DataLogEntry entry, long bits, Object ref, long time) {
+        ((BooleanLogEntry) entry).append(bits != 0, time);
+    }
+
+    /**
+     * Logs a boolean to NetworkTables.
+     *
+     * @param value The boolean to log.
+     */
+    public void set(boolean value) {
+        write(value ? 1 : 0, null);
+    }
+
+    /**
+     * Logs a boolean to NetworkTables with the time it was measured.
+     *
+     * @param value           The boolean to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void set(boolean value, long timestampMicros) {
+        write(value ? 1 : 0, null, timestampMicros);
+    }
+
+    /**
+     * Gets a boolean from NetworkTables.
+     *
+     * @return The boolean, or the handle's default value if nothing has been
+     *         published.
+     */
+    public boolean get() {
+        return get(defaultValue);
+    }
+
+    /**
+     * Gets a boolean from NetworkTables.
+     *
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The boolean referenced by the handle.
+     */
+    public boolean get(boolean defaultValue) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            return defaultValue;
+        }
+
+        markRead();
+
+        return sub.getBoolean(defaultValue);
+    }
+
+    /**
+     * Gets a boolean from NetworkTables along with the times it was received
+     * and published.
+     *
+     * @param dest The holder to fill. It is given the handle's default value if
+     *             nothing has been published.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(MutableTimestampedBoolean dest) {
+        return getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a boolean from NetworkTables along with the times it was received
+     * and published.
+     *
+     * <p>
+     * NetworkTables makes a new object for the value each time it is read, so
+     * this still allocates once per call. The holder only saves the caller from
+     * making its own.
+     *
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(boolean defaultValue, MutableTimestampedBoolean dest) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        markRead();
+
+        // Reading the value and its times in one call, so they are from the same
+        // update
+        NetworkTableValue value = sub.get();
+        if (value.getType() != type) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        dest.set(value.getBoolean(), value.getTime(), value.getServerTime());
+        return true;
+    }
+
+    /**
+     * Starts queueing every boolean published to the path, so {@link
+     * #readQueue} can return values published faster than they are read. The
+     * queue is opened with room for 20 values the first time it is read if this
+     * isn't called first. If the queue is already open with less room, it is
+     * reopened with the new depth without losing any values. Asking for less
+     * room than it already has does nothing.
+     *
+     * @param depth How many values to keep between reads. Older values are
+     *              dropped once the queue is full.
+     *
+     * @throws IllegalArgumentException If the depth is less than 1.
+     */
+    public void openQueue(int depth) {
+        owner.startQueue(depth);
+    }
+
+    /**
+     * Reads every boolean published since the last call into existing arrays, in
+     * the order they were published. Values that don't fit are kept for the
+     * next call.
+     *
+     * <p>
+     * The queue is shared by the path and its aliases, so each value is only
+     * returned once no matter which key it is read through.
+     *
+     * @param values     The array to fill with the booleans.
+     * @param timestamps The array to fill with the time each value was
+     *                   published, in microseconds on the NetworkTables clock.
+     *
+     * @return How many values were read.
+     */
+    public int readQueue(boolean[] values, long[] timestamps) {
+        int max = Math.min(values.length, timestamps.length);
+        markRead();
+
+        int count = 0;
+        while (count < max) {
+            NetworkTableValue value = owner.pollQueue();
+            if (value == null) {
+                break;
+            }
+
+            values[count] = value.getBoolean();
+            timestamps[count] = value.getTime();
+            count++;
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,209 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.GenericPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.wpilibj.DriverStation;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntSupplier;
+
+/**
+ * Records problems TurboLogger runs into, like a key being used with the wrong
+ * type, without flooding the console.
+ *
+ * <p>
+ * Each problem is counted per key and kind. Only the first occurrence builds a
+ * message, and every repeat just increments a counter, so a problem that
+ * happens every loop doesn't allocate or print. The messages are printed and a
+ * summary with the counts is published to the "TurboLoggerDiagnostics" table
+ * from a background thread, so callers never wait on the console.
+ */
+final class Diagnostics {
+    /** The kinds of problems that are counted per key. */
+    enum Kind {
+        /** A key was used with a different type than it already handles. */
+        TYPE_MISMATCH,
+
+        /** A value could not be published on the async drain thread. */
+        PUBLISH_FAILED
+    }
+
+    private static final int KINDS = Kind.values().length;
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // How often new problems are printed and the summary is published
+    private static final long SUMMARY_PERIOD_MS = 1000;
+
+    /** A problem that has happened at least once. */
+    private record Problem(String message, IntSupplier count) {
+    }
+
+    private final NetworkTable table;
+
+    // The count of each kind of problem for each key id. Chunks never move once
+    // they are created, so counting an existing id doesn't lock.
+    private volatile AtomicIntegerArray[] chunks = new AtomicIntegerArray[0];
+
+    // The count of problems for classes, like struct classes without a struct
+    private final ClassValue<AtomicInteger> classCounts = new ClassValue<>() {
+        @Override
+        protected AtomicInteger computeValue(Class<?> type) {
+            return new AtomicInteger();
+        }
+    };
+
+    // Every problem that has happened, in the order they first happened
+    private final List<Problem> problems = new CopyOnWriteArrayList<>();
+
+    // Guarded by this
+    private Timer timer;
+
+    // Only used by the timer thread
+    private int printed = 0;
+    private long lastTotal = 0;
+    private GenericPublisher problemsPublisher;
+    private GenericPublisher countPublisher;
+
+    /**
+     * Creates the diagnostics.
+     *
+     * @param instance The instance to publish the summary to.
+     */
+    Diagnostics(NetworkTableInstance instance) {
+        table = instance.getTable("TurboLoggerDiagnostics");
+    }
+
+    /**
+     * Counts a problem with a key.
+     *
+     * @param id   The key's id, from TurboLogger's {@link KeyRegistry}.
+     * @param kind The kind of problem.
+     *
+     * @return Whether this is the first time the key has had this problem. If it
+     *         is, the caller should pass a message to
+     *         {@link #report(int, Kind, String)}.
+     */
+    boolean count(int id, Kind kind) {
+        AtomicIntegerArray[] current = chunks;
+        if ((id >>> CHUNK_SHIFT) >= current.length) {
+            current = grow(id);
+        }
+
+        return current[id >>> CHUNK_SHIFT].getAndIncrement((id & CHUNK_MASK) * KINDS + kind.ordinal()) == 0;
+    }
+
+    /**
+     * Counts a problem with a class.
+     *
+     * @param type The class.
+     *
+     * @return Whether this is the first time the class has had a problem. If it
+     *         is, the caller should pass a message to
+     *         {@link #report(Class, String)}.
+     */
+    boolean count(Class<?> type) {
+        return classCounts.get(type).getAndIncrement() == 0;
+    }
+
+    /**
+     * Records the message for a key's problem the first time it happens.
+     *
+     * @param id      The key's id.
+     * @param kind    The kind of problem.
+     * @param message What went wrong.
+     */
+    void report(int id, Kind kind, String message) {
+        AtomicIntegerArray chunk = chunks[id >>> CHUNK_SHIFT];
+        int index = (id & CHUNK_MASK) * KINDS + kind.ordinal();
+        add(new Problem(message, () -> chunk.get(index)));
+    }
+
+    /**
+     * Records the message for a class's problem the first time it happens.
+     *
+     * @param type    The class.
+     * @param message What went wrong.
+     */
+    void report(Class<?> type, String message) {
+        AtomicInteger counter = classCounts.get(type);
+        add(new Problem(message, counter::get));
+    }
+
+    private synchronized AtomicIntegerArray[] grow(int id) {
+        AtomicIntegerArray[] current = chunks;
+        if ((id >>> CHUNK_SHIFT) < current.length) {
+            return current;
+        }
+
+        AtomicIntegerArray[] grown = new AtomicIntegerArray[(id >>> CHUNK_SHIFT) + 1];
+        System.arraycopy(current, 0, grown, 0, current.length);
+        for (int i = current.length; i < grown.length; i++) {
+            grown[i] = new AtomicIntegerArray(CHUNK_SIZE * KINDS);
+        }
+
+        chunks = grown;
+        return grown;
+    }
+
+    private void add(Problem problem) {
+        problems.add(problem);
+
+        // Starting the summary thread the first time anything goes wrong
+        synchronized (this) {
+            if (timer == null) {
+                timer = new Timer("TurboLogger diagnostics", true);
+                timer.scheduleAtFixedRate(new TimerTask() {
+                    @Override
+                    public void run() {
+                        summarize();
+                    }
+                }, 0, SUMMARY_PERIOD_MS);
+            }
+        }
+    }
+
+    /**
+     * Prints the problems that haven't been printed yet and publishes the summary
+     * if any counts changed. Runs on the timer thread.
+     */
+    private void summarize() {
+        int size = problems.size();
+        for (; printed < size; printed++) {
+            DriverStation.reportWarning("TurboLogger: " + problems.get(printed).message()
+                    + " Repeats are counted in TurboLoggerDiagnostics.", false);
+        }
+
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += problems.get(i).count().getAsInt();
+        }
+
+        if (total == lastTotal) {
+            return;
+        }
+
+        lastTotal = total;
+
+        String[] lines = new String[size];
+        for (int i = 0; i < size; i++) {
+            Problem problem = problems.get(i);
+            lines[i] = problem.count().getAsInt() + "x " + problem.message();
+        }
+
+        if (problemsPublisher == null) {
+            problemsPublisher = table.getTopic("Problems").genericPublish(NetworkTableType.kStringArray.getValueStr());
+            countPublisher = table.getTopic("Count").genericPublish(NetworkTableType.kInteger.getValueStr());
+        }
+
+        problemsPublisher.setStringArray(lines);
+        countPublisher.setInteger(total);
+    }
+}
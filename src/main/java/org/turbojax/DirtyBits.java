@@ -0,0 +1,85 @@
+package org.turbojax;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * One "changed" bit per key, packed into longs and indexed by the key's id.
+ *
+ * <p>
+ * The bits are stored in chunks that are never moved once they exist, so the
+ * NetworkTables listener thread can set bits while robot code tests and clears
+ * them without either side locking. Only adding a chunk locks.
+ */
+final class DirtyBits {
+    // Each chunk holds 64 longs, which is 4096 bits
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private volatile long[][] chunks = new long[0][];
+
+    /**
+     * Makes sure there is a bit for an id. Only needs to be called once per id.
+     *
+     * @param id The id, from TurboLogger's {@link KeyRegistry}.
+     */
+    synchronized void ensure(int id) {
+        long[][] current = chunks;
+        if ((id >>> CHUNK_SHIFT) < current.length) {
+            return;
+        }
+
+        long[][] grown = new long[(id >>> CHUNK_SHIFT) + 1][];
+        System.arraycopy(current, 0, grown, 0, current.length);
+        for (int i = current.length; i < grown.length; i++) {
+            grown[i] = new long[(CHUNK_MASK + 1) / Long.SIZE];
+        }
+
+        chunks = grown;
+    }
+
+    /**
+     * Sets the bit for an id.
+     *
+     * @param id The id to mark as changed.
+     */
+    void set(int id) {
+        long[] chunk = chunks[id >>> CHUNK_SHIFT];
+        int word = (id & CHUNK_MASK) >>> 6;
+        long mask = 1L << id;
+
+        // Skipping the atomic write if the bit is already set
+        if (((long) WORDS.getAcquire(chunk, word) & mask) == 0) {
+            WORDS.getAndBitwiseOr(chunk, word, mask);
+        }
+    }
+
+    /**
+     * Clears the bit for an id.
+     *
+     * @param id The id to mark as unchanged.
+     */
+    void clear(int id) {
+        long[] chunk = chunks[id >>> CHUNK_SHIFT];
+        int word = (id & CHUNK_MASK) >>> 6;
+        long mask = 1L << id;
+
+        if (((long) WORDS.getAcquire(chunk, word) & mask) != 0) {
+            WORDS.getAndBitwiseAnd(chunk, word, ~mask);
+        }
+    }
+
+    /**
+     * Tests the bit for an id.
+     *
+     * @param id The id to test.
+     *
+     * @return Whether or not the bit is set.
+     */
+    boolean get(int id) {
+        long[] chunk = chunks[id >>> CHUNK_SHIFT];
+        return ((long) WORDS.getAcquire(chunk, (id & CHUNK_MASK) >>> 6) & (1L << id)) != 0;
+    }
+}
@@ -0,0 +1,163 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.GenericPublisher;
+import edu.wpi.first.networktables.GenericSubscriber;
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.NetworkTableValue;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.Subscriber;
+import edu.wpi.first.networktables.Topic;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogEntry;
+import edu.wpi.first.util.datalog.DoubleArrayLogEntry;
+
+/** A {@link LogHandle} for double array values. */
+public final class DoubleArrayHandle extends LogHandle {
+    private final double[] defaultValue;
+
+    DoubleArrayHandle(String key, Topic topic, LogHandle owner, double[] defaultValue) {
+        super(key, NetworkTableType.kDoubleArray, topic, owner);
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    Publisher createPublisher() {
+        return topic.genericPublish(typeString);
+    }
+
+    @Override
+    Subscriber createSubscriber() {
+        return topic.genericSubscribe(typeString);
+    }
+
+    @Override
+    void publish(long bits, Object ref, long time) {
+        GenericPublisher pub = (GenericPublisher) publisher();
+        if (pub != null) {
+            pub.setDoubleArray((double[]) ref, time);
+        }
+    }
+
+    @Override
+    Object copy(Object ref) {
+        return ((double[]) ref).clone();
+    }
+
+    @Override
+    Object copyInto(Object ref, Object buffer) {
+        double[] value = (double[]) ref;
+        if (buffer instanceof double[] copy && copy.length == value.length) {
+            System.arraycopy(value, 0, copy, 0, value.length);
+            return copy;
+        }
+
+        return value.clone();
+    }
+
+    @Override
+    DataLogEntry createEntry(DataLog log, String name) {
+        return new DoubleArrayLogEntry(log, name);
+    }
+
+    @Override
+    void append(DataLogEntry entry, long bits, Object ref, long time) {
+        ((DoubleArrayLogEntry) entry).append((double[]) ref, time);
+    }
+
+    /**
+     * Logs a double array to NetworkTables.
+     *
+     * @param value The double array to log.
+     */
+    public void set(double[] value) {
+        write(0, value);
+    }
+
+    /**
+     * Logs a double array to NetworkTables with the time it was measured.
+     *
+     * @param value           The double array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void set(double[] value, long timestampMicros) {
+        write(0, value, timestampMicros);
+    }
+
+    /**
+     * Gets a double array from NetworkTables.
+     *
+     * @return The double array, or the handle's default value if nothing has been
+     *         published.
+     */
+    public double[] get() {
+        return get(defaultValue);
+    }
+
+    /**
+     * Gets a double array from NetworkTables.
+     *
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The double array referenced by the handle.
+     */
+    public double[] get(double[] defaultValue) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            return defaultValue;
+        }
+
+        markRead();
+
+        return sub.getDoubleArray(defaultValue);
+    }
+
+    /**
+     * Gets a double array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param dest The holder to fill. It is given the handle's default value if
+     *             nothing has been published.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(MutableTimestampedObject<double[]> dest) {
+        return getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a double array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * <p>
+     * NetworkTables makes a new object for the value each time it is read, so
+     * this still allocates once per call. The holder only saves the caller from
+     * making its own.
+     *
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(double[] defaultValue, MutableTimestampedObject<double[]> dest) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        markRead();
+
+        // Reading the value and its times in one call, so they are from the same
+        // update
+        NetworkTableValue value = sub.get();
+        if (value.getType() != type) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        dest.set(value.getDoubleArray(), value.getTime(), value.getServerTime());
+        return true;
+    }
+}
@@ -0,0 +1,163 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.GenericPublisher;
+import edu.wpi.first.networktables.GenericSubscriber;
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.NetworkTableValue;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.Subscriber;
+import edu.wpi.first.networktables.Topic;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogEntry;
+import edu.wpi.first.util.datalog.FloatArrayLogEntry;
+
+/** A {@link LogHandle} for float array values. */
+public final class FloatArrayHandle extends LogHandle {
+    private final float[] defaultValue;
+
+    FloatArrayHandle(String key, Topic topic, LogHandle owner, float[] defaultValue) {
+        super(key, NetworkTableType.kFloatArray, topic, owner);
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    Publisher createPublisher() {
+        return topic.genericPublish(typeString);
+    }
+
+    @Override
+    Subscriber createSubscriber() {
+        return topic.genericSubscribe(typeString);
+    }
+
+    @Override
+    void publish(long bits, Object ref, long time) {
+        GenericPublisher pub = (GenericPublisher) publisher();
+        if (pub != null) {
+            pub.setFloatArray((float[]) ref, time);
+        }
+    }
+
+    @Override
+    Object copy(Object ref) {
+        return ((float[]) ref).clone();
+    }
+
+    @Override
+    Object copyInto(Object ref, Object buffer) {
+        float[] value = (float[]) ref;
+        if (buffer instanceof float[] copy && copy.length == value.length) {
+            System.arraycopy(value, 0, copy, 0, value.length);
+            return copy;
+        }
+
+        return value.clone();
+    }
+
+    @Override
+    DataLogEntry createEntry(DataLog log, String name) {
+        return new FloatArrayLogEntry(log, name);
+    }
+
+    @Override
+    void append(DataLogEntry entry, long bits, Object ref, long time) {
+        ((FloatArrayLogEntry) entry).append((float[]) ref, time);
+    }
+
+    /**
+     * Logs a float array to NetworkTables.
+     *
+     * @param value The float array to log.
+     */
+    public void set(float[] value) {
+        write(0, value);
+    }
+
+    /**
+     * Logs a float array to NetworkTables with the time it was measured.
+     *
+     * @param value           The float array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void set(float[] value, long timestampMicros) {
+        write(0, value, timestampMicros);
+    }
+
+    /**
+     * Gets a float array from NetworkTables.
+     *
+     * @return The float array, or the handle's default value if nothing has been
+     *         published.
+     */
+    public float[] get() {
+        return get(defaultValue);
+    }
+
+    /**
+     * Gets a float array from NetworkTables.
+     *
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The float array referenced by the handle.
+     */
+    public float[] get(float[] defaultValue) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            return defaultValue;
+        }
+
+        markRead();
+
+        return sub.getFloatArray(defaultValue);
+    }
+
+    /**
+     * Gets a float array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param dest The holder to fill. It is given the handle's default value if
+     *             nothing has been published.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(MutableTimestampedObject<float[]> dest) {
+        return getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a float array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * <p>
+     * NetworkTables makes a new object for the value each time it is read, so
+     * this still allocates once per call. The holder only saves the caller from
+     * making its own.
+     *
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(float[] defaultValue, MutableTimestampedObject<float[]> dest) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        markRead();
+
+        // Reading the value and its times in one call, so they are from the same
+        // update
+        NetworkTableValue value = sub.get();
+        if (value.getType() != type) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        dest.set(value.getFloatArray(), value.getTime(), value.getServerTime());
+        return true;
+    }
+}
@@ -0,0 +1,197 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.NetworkTablesJNI;
+import java.util.ArrayList;
+
+/**
+ * Holds the values logged between {@code TurboLogger.beginFrame()} and
+ * {@code TurboLogger.commitFrame()}.
+ *
+ * <p>
+ * Each path has one slot on its handle, so logging the same path more than
+ * once in a frame only keeps the last value. The list of staged handles is
+ * reused between frames, so staging a primitive doesn't allocate once the list
+ * has grown to fit a loop's worth of keys. Arrays are copied when they are
+ * staged, into the copy from the path's last frame once it has been published,
+ * so staging the same size of array every frame doesn't allocate either.
+ *
+ * <p>
+ * Committing copies the staged values out under the frame's lock and publishes
+ * them after releasing it. Publishing can take a handle's lock, and logging
+ * takes the frame's lock while it may hold a handle's lock, so holding both the
+ * other way around could deadlock.
+ */
+final class Frame {
+    private final NetworkTableInstance instance;
+
+    // The owner handles with a staged value, in the order they were first logged
+    private final ArrayList<LogHandle> staged = new ArrayList<>();
+
+    // Whether a frame is open. Checked without the lock by every log call.
+    private volatile boolean active = false;
+
+    // The values being committed, copied out of the staged handles so they can be
+    // published without the frame's lock. These are guarded by commitLock and are
+    // reused between frames.
+    private final Object commitLock = new Object();
+    private LogHandle[] commitHandles = new LogHandle[0];
+    private long[] commitBits = new long[0];
+    private Object[] commitRefs = new Object[0];
+    private long[] commitTimes = new long[0];
+
+    /**
+     * Creates the frame.
+     *
+     * @param instance The instance to flush when the frame is committed.
+     */
+    Frame(NetworkTableInstance instance) {
+        this.instance = instance;
+    }
+
+    /**
+     * Gets whether a frame is open.
+     *
+     * @return Whether log calls should be staged.
+     */
+    boolean isActive() {
+        return active;
+    }
+
+    /** Opens a frame. Does nothing if one is already open. */
+    synchronized void begin() {
+        active = true;
+    }
+
+    /**
+     * Stages a value for the handle's path, replacing anything already staged
+     * for it.
+     *
+     * @param handle The handle the value was logged through.
+     * @param bits   The packed value for primitive handles.
+     * @param ref    The value for array, string and struct handles.
+     * @param time   When the value was measured, or 0 to use the frame's time.
+     *
+     * @return Whether or not the value was staged. This is false if the frame was
+     *         committed after the caller checked it.
+     */
+    synchronized boolean stage(LogHandle handle, long bits, Object ref, long time) {
+        if (!active) {
+            return false;
+        }
+
+        LogHandle owner = handle.owner;
+        if (!owner.staged) {
+            owner.staged = true;
+            staged.add(owner);
+        }
+
+        // Copying into the value already staged for the path this frame, or else
+        // into the one published in an earlier frame
+        Object buffer = owner.stagedRef;
+        if (buffer == null) {
+            buffer = owner.stagingBuffer;
+            owner.stagingBuffer = null;
+        }
+
+        owner.stagedBits = bits;
+        owner.stagedRef = ref == null ? null : handle.copyInto(ref, buffer);
+        owner.stagedTime = time;
+        return true;
+    }
+
+    /**
+     * Publishes every staged value with the same timestamp and closes the frame.
+     * Values that were logged with their own timestamp keep it. Does nothing if
+     * no frame is open.
+     */
+    void commit() {
+        synchronized (commitLock) {
+            int count = takeStaged();
+            if (count < 0) {
+                return;
+            }
+
+            AsyncLogger async = TurboLogger.asyncLogger;
+
+            for (int i = 0; i < count; i++) {
+                LogHandle owner = commitHandles[i];
+                Object ref = commitRefs[i];
+
+                if (async != null) {
+                    // The queue keeps the value, so it can't be reused. Clearing the
+                    // references so it can be collected once it is published.
+                    commitHandles[i] = null;
+                    commitRefs[i] = null;
+                    async.enqueue(owner, commitBits[i], ref, commitTimes[i]);
+                } else {
+                    owner.publish(commitBits[i], ref, commitTimes[i]);
+                    owner.markChanged();
+                }
+            }
+
+            // Sending the whole frame to the network at once. The drain thread does
+            // the publishing in async mode, so there is nothing to flush yet.
+            if (async == null) {
+                recycle(count);
+                instance.flushLocal();
+            }
+        }
+    }
+
+    /**
+     * Closes the frame and copies its staged values into the commit arrays. Only
+     * called with commitLock held.
+     *
+     * @return The number of values copied, or -1 if no frame was open.
+     */
+    private synchronized int takeStaged() {
+        if (!active) {
+            return -1;
+        }
+
+        active = false;
+        long time = NetworkTablesJNI.now();
+        int count = staged.size();
+
+        if (commitHandles.length < count) {
+            commitHandles = new LogHandle[count];
+            commitBits = new long[count];
+            commitRefs = new Object[count];
+            commitTimes = new long[count];
+        }
+
+        for (int i = 0; i < count; i++) {
+            LogHandle owner = staged.get(i);
+
+            commitHandles[i] = owner;
+            commitBits[i] = owner.stagedBits;
+            commitRefs[i] = owner.stagedRef;
+            commitTimes[i] = owner.stagedTime != 0 ? owner.stagedTime : time;
+
+            owner.staged = false;
+            owner.stagedRef = null;
+        }
+
+        staged.clear();
+        return count;
+    }
+
+    /**
+     * Gives the published values back to their handles to stage the next frame's
+     * values into. Only called with commitLock held.
+     *
+     * @param count The number of values that were committed.
+     */
+    private synchronized void recycle(int count) {
+        for (int i = 0; i < count; i++) {
+            if (commitRefs[i] != null) {
+                commitHandles[i].stagingBuffer = commitRefs[i];
+            }
+
+            // Clearing the references so the handles can be collected
+            commitHandles[i] = null;
+            commitRefs[i] = null;
+        }
+    }
+}
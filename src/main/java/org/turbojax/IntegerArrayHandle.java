@@ -0,0 +1,258 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.GenericPublisher;
+import edu.wpi.first.networktables.GenericSubscriber;
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.NetworkTableValue;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.Subscriber;
+import edu.wpi.first.networktables.Topic;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogEntry;
+import edu.wpi.first.util.datalog.IntegerArrayLogEntry;
+
+/** A {@link LogHandle} for integer array values. */
+public final class IntegerArrayHandle extends LogHandle {
+    // Returned by the subscriber when nothing has been published
+    private static final long[] NONE = new long[0];
+
+    private final long[] defaultValue;
+
+    // Reused to widen int arrays before they are published. Only used on the
+    // owner and guarded by its lock.
+    private long[] widened;
+
+    IntegerArrayHandle(String key, Topic topic, LogHandle owner, long[] defaultValue) {
+        super(key, NetworkTableType.kIntegerArray, topic, owner);
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    Publisher createPublisher() {
+        return topic.genericPublish(typeString);
+    }
+
+    @Override
+    Subscriber createSubscriber() {
+        return topic.genericSubscribe(typeString);
+    }
+
+    @Override
+    void publish(long bits, Object ref, long time) {
+        GenericPublisher pub = (GenericPublisher) publisher();
+        if (pub != null) {
+            pub.setIntegerArray((long[]) ref, time);
+        }
+    }
+
+    @Override
+    Object copy(Object ref) {
+        return ((long[]) ref).clone();
+    }
+
+    @Override
+    Object copyInto(Object ref, Object buffer) {
+        long[] value = (long[]) ref;
+        if (buffer instanceof long[] copy && copy.length == value.length) {
+            System.arraycopy(value, 0, copy, 0, value.length);
+            return copy;
+        }
+
+        return value.clone();
+    }
+
+    @Override
+    DataLogEntry createEntry(DataLog log, String name) {
+        return new IntegerArrayLogEntry(log, name);
+    }
+
+    @Override
+    void append(DataLogEntry entry, long bits, Object ref, long time) {
+        ((IntegerArrayLogEntry) entry).append((long[]) ref, time);
+    }
+
+    /**
+     * Logs an integer array to NetworkTables.
+     *
+     * @param value The integer array to log.
+     */
+    public void set(long[] value) {
+        write(0, value);
+    }
+
+    /**
+     * Logs an integer array to NetworkTables with the time it was measured.
+     *
+     * @param value           The integer array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void set(long[] value, long timestampMicros) {
+        write(0, value, timestampMicros);
+    }
+
+    /**
+     * Logs an int array to NetworkTables.
+     *
+     * <p>
+     * The ints are widened into a buffer that is kept for the path and reused as
+     * long as the array length doesn't change, so logging the same size of array
+     * every loop doesn't allocate.
+     *
+     * @param value The int array to log.
+     */
+    public void set(int[] value) {
+        set(value, 0);
+    }
+
+    /**
+     * Logs an int array to NetworkTables with the time it was measured. The ints
+     * are widened the same way as {@link #set(int[])}.
+     *
+     * @param value           The int array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void set(int[] value, long timestampMicros) {
+        IntegerArrayHandle path = (IntegerArrayHandle) owner;
+
+        synchronized (path) {
+            long[] longs = path.widened;
+            if (longs == null || longs.length != value.length) {
+                longs = new long[value.length];
+                path.widened = longs;
+            }
+
+            // Converting the int array to a long array
+            for (int i = 0; i < value.length; i++) {
+                longs[i] = value[i];
+            }
+
+            // The value is copied if it is staged or queued, so the buffer can be
+            // reused as soon as this returns
+            set(longs, timestampMicros);
+        }
+    }
+
+    /**
+     * Gets an integer array from NetworkTables.
+     *
+     * @return The integer array, or the handle's default value if nothing has been
+     *         published.
+     */
+    public long[] get() {
+        return get(defaultValue);
+    }
+
+    /**
+     * Gets an integer array from NetworkTables.
+     *
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The integer array referenced by the handle.
+     */
+    public long[] get(long[] defaultValue) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            return defaultValue;
+        }
+
+        markRead();
+
+        return sub.getIntegerArray(defaultValue);
+    }
+
+    /**
+     * Gets an integer array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param dest The holder to fill. It is given the handle's default value if
+     *             nothing has been published.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(MutableTimestampedObject<long[]> dest) {
+        return getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets an integer array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * <p>
+     * NetworkTables makes a new object for the value each time it is read, so
+     * this still allocates once per call. The holder only saves the caller from
+     * making its own.
+     *
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(long[] defaultValue, MutableTimestampedObject<long[]> dest) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        markRead();
+
+        // Reading the value and its times in one call, so they are from the same
+        // update
+        NetworkTableValue value = sub.get();
+        if (value.getType() != type) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        dest.set(value.getIntegerArray(), value.getTime(), value.getServerTime());
+        return true;
+    }
+
+    /**
+     * Reads an integer array from NetworkTables into an int array. Values outside
+     * of the int range are clamped to it.
+     *
+     * <p>
+     * Nothing is allocated on the Java side besides the array NetworkTables
+     * returns, so this can be called every loop with the same destination.
+     *
+     * @param dest The array to fill. If the value is longer than it, only the
+     *             start of the value is copied.
+     *
+     * @return The length of the value in NetworkTables, or -1 if nothing has been
+     *         published. dest is left alone if this is -1.
+     */
+    public int getInto(int[] dest) {
+        long[] longs = getOrNull();
+        if (longs == null) {
+            return -1;
+        }
+
+        int length = Math.min(longs.length, dest.length);
+        for (int i = 0; i < length; i++) {
+            dest[i] = TurboLogger.clampToInt(longs[i]);
+        }
+
+        return longs.length;
+    }
+
+    /**
+     * Gets an integer array from NetworkTables.
+     *
+     * @return The integer array, or null if nothing has been published.
+     */
+    long[] getOrNull() {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            return null;
+        }
+
+        markRead();
+
+        long[] longs = sub.getIntegerArray(NONE);
+        return longs == NONE ? null : longs;
+    }
+}
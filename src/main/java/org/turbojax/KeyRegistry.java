@@ -0,0 +1,365 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.NetworkTableType;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Gives every key TurboLogger sees a small id, and keeps the state for each key
+ * in arrays indexed by that id.
+ *
+ * <p>
+ * A key's string is only hashed once per call to find its id. Its handle and
+ * the path it is an alias of are then array reads, and an alias points at its
+ * path by id instead of by string. Ids are never reused, so the same key always
+ * gets the same id.
+ *
+ * <p>
+ * The arrays are split into chunks that never move once they are created, so
+ * reads and writes of existing ids don't lock. Only adding a new key does.
+ *
+ * <p>
+ * Paths can also be found by their NetworkTables topic handle, so listeners can
+ * find a path from an event without building its name.
+ */
+final class KeyRegistry {
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /** The state for a range of ids. */
+    private static final class Chunk {
+        final String[] keys = new String[CHUNK_SIZE];
+        final AtomicReferenceArray<LogHandle> handles = new AtomicReferenceArray<>(CHUNK_SIZE);
+
+        // The id of the path each key is an alias of, plus 1. 0 means the key is
+        // not an alias.
+        final AtomicIntegerArray parents = new AtomicIntegerArray(CHUNK_SIZE);
+
+        // Whether each path skips NetworkTables. See the DATALOG_ constants.
+        final AtomicIntegerArray dataLogModes = new AtomicIntegerArray(CHUNK_SIZE);
+
+        // The policy set for each path with TurboLogger.setPolicy
+        final AtomicReferenceArray<LogPolicy> policies = new AtomicReferenceArray<>(CHUNK_SIZE);
+
+        // The NetworkTables type of each path's topic, as the type's ordinal plus 1.
+        // 0 means the type isn't known.
+        final AtomicIntegerArray types = new AtomicIntegerArray(CHUNK_SIZE);
+    }
+
+    private static final NetworkTableType[] TYPES = NetworkTableType.values();
+
+    /** The path follows TurboLogger's global DataLog-only setting. */
+    static final int DATALOG_DEFAULT = 0;
+
+    /** The path only writes to the DataLog. */
+    static final int DATALOG_ONLY = 1;
+
+    /** The path always publishes to NetworkTables. */
+    static final int DATALOG_NEVER = 2;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile Chunk[] chunks = new Chunk[0];
+
+    // Guarded by this
+    private int nextId = 0;
+
+    // An open addressing table from topic handle to path id, stored as pairs of
+    // handle and id. 0 is never a valid handle, so it marks an empty pair. The
+    // table is replaced rather than changed, under this.
+    private volatile int[] topics = new int[32];
+    private int topicCount = 0;
+
+    /**
+     * Finds the id for a key without adding it.
+     *
+     * @param key The key to find.
+     *
+     * @return The id, or -1 if the key has never been added.
+     */
+    int find(String key) {
+        Integer id = ids.get(key);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the id for a key, adding the key if it is new.
+     *
+     * @param key The key to get the id for.
+     *
+     * @return The id.
+     */
+    int intern(String key) {
+        Integer id = ids.get(key);
+        if (id != null) {
+            return id;
+        }
+
+        return ids.computeIfAbsent(key, this::assign);
+    }
+
+    private synchronized Integer assign(String key) {
+        int id = nextId++;
+
+        // Adding a chunk when the id is the first one in it
+        Chunk[] current = chunks;
+        if ((id >>> CHUNK_SHIFT) == current.length) {
+            Chunk[] grown = new Chunk[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            grown[current.length] = new Chunk();
+            chunks = grown;
+            current = grown;
+        }
+
+        // The key is written before the id is put in the map, so anything that
+        // finds the id can see it
+        current[id >>> CHUNK_SHIFT].keys[id & CHUNK_MASK] = key;
+        return id;
+    }
+
+    private Chunk chunk(int id) {
+        return chunks[id >>> CHUNK_SHIFT];
+    }
+
+    /**
+     * Gets the key for an id.
+     *
+     * @param id The key's id.
+     *
+     * @return The key.
+     */
+    String key(int id) {
+        return chunk(id).keys[id & CHUNK_MASK];
+    }
+
+    /**
+     * Gets the handle for a key.
+     *
+     * @param key The key to get the handle for.
+     *
+     * @return The handle, or null if the key has no handle.
+     */
+    LogHandle handle(String key) {
+        int id = find(key);
+        return id < 0 ? null : handle(id);
+    }
+
+    /**
+     * Gets the handle for an id.
+     *
+     * @param id The key's id.
+     *
+     * @return The handle, or null if the key has no handle.
+     */
+    LogHandle handle(int id) {
+        return chunk(id).handles.get(id & CHUNK_MASK);
+    }
+
+    /**
+     * Sets the handle for an id if it doesn't have one yet.
+     *
+     * @param id     The key's id.
+     * @param handle The handle to set.
+     *
+     * @return Whether or not the handle was set.
+     */
+    boolean setHandleIfAbsent(int id, LogHandle handle) {
+        return chunk(id).handles.compareAndSet(id & CHUNK_MASK, null, handle);
+    }
+
+    /**
+     * Removes the handle for an id.
+     *
+     * @param id The key's id.
+     *
+     * @return The handle that was removed, or null if there was none.
+     */
+    LogHandle removeHandle(int id) {
+        return chunk(id).handles.getAndSet(id & CHUNK_MASK, null);
+    }
+
+    /**
+     * Gets the path a key is an alias of.
+     *
+     * @param id The key's id.
+     *
+     * @return The id of the path, or -1 if the key isn't an alias.
+     */
+    int parent(int id) {
+        return chunk(id).parents.get(id & CHUNK_MASK) - 1;
+    }
+
+    /**
+     * Makes a key an alias of a path if it isn't an alias already.
+     *
+     * @param id     The alias's id.
+     * @param parent The path's id.
+     *
+     * @return The id of the path the key was already an alias of, or -1 if it
+     *         wasn't one and is now an alias of the path.
+     */
+    int setParentIfAbsent(int id, int parent) {
+        return chunk(id).parents.compareAndExchange(id & CHUNK_MASK, 0, parent + 1) - 1;
+    }
+
+    /**
+     * Stops a key from being an alias.
+     *
+     * @param id The alias's id.
+     *
+     * @return The id of the path the key was an alias of, or -1 if it wasn't one.
+     */
+    int removeParent(int id) {
+        return chunk(id).parents.getAndSet(id & CHUNK_MASK, 0) - 1;
+    }
+
+    /**
+     * Gets whether a path skips NetworkTables.
+     *
+     * @param id The path's id.
+     *
+     * @return One of the DATALOG_ constants.
+     */
+    int dataLogMode(int id) {
+        return chunk(id).dataLogModes.get(id & CHUNK_MASK);
+    }
+
+    /**
+     * Sets whether a path skips NetworkTables.
+     *
+     * @param id   The path's id.
+     * @param mode One of the DATALOG_ constants.
+     */
+    void setDataLogMode(int id, int mode) {
+        chunk(id).dataLogModes.set(id & CHUNK_MASK, mode);
+    }
+
+    /**
+     * Gets the policy set for a path.
+     *
+     * @param id The path's id.
+     *
+     * @return The policy, or null if the path doesn't have its own policy.
+     */
+    LogPolicy policy(int id) {
+        return chunk(id).policies.get(id & CHUNK_MASK);
+    }
+
+    /**
+     * Sets the policy for a path.
+     *
+     * @param id     The path's id.
+     * @param policy The policy, or null to remove it.
+     */
+    void setPolicy(int id, LogPolicy policy) {
+        chunk(id).policies.set(id & CHUNK_MASK, policy);
+    }
+
+    /**
+     * Gets the cached type of a path's topic.
+     *
+     * @param id The path's id.
+     *
+     * @return The type, or null if it isn't known.
+     */
+    NetworkTableType type(int id) {
+        int type = chunk(id).types.get(id & CHUNK_MASK);
+        return type == 0 ? null : TYPES[type - 1];
+    }
+
+    /**
+     * Sets the cached type of a path's topic.
+     *
+     * @param id   The path's id.
+     * @param type The type, or null if it isn't known.
+     */
+    void setType(int id, NetworkTableType type) {
+        chunk(id).types.set(id & CHUNK_MASK, type == null ? 0 : type.ordinal() + 1);
+    }
+
+    /**
+     * Sets the cached type of a path's topic if it isn't known yet. Used when the
+     * type is looked up, so it doesn't replace a newer type from a topic event.
+     *
+     * @param id   The path's id.
+     * @param type The type.
+     */
+    void setTypeIfAbsent(int id, NetworkTableType type) {
+        chunk(id).types.compareAndSet(id & CHUNK_MASK, 0, type.ordinal() + 1);
+    }
+
+    /**
+     * Finds the path for a NetworkTables topic handle.
+     *
+     * @param topicHandle The topic's handle.
+     *
+     * @return The path's id, or -1 if no handle has been made for the topic.
+     */
+    int findTopic(int topicHandle) {
+        int[] table = topics;
+        int mask = (table.length >>> 1) - 1;
+
+        for (int slot = mix(topicHandle) & mask;; slot = (slot + 1) & mask) {
+            int handle = table[slot << 1];
+            if (handle == topicHandle) {
+                return table[(slot << 1) + 1];
+            } else if (handle == 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Records the path for a NetworkTables topic handle. Called once when the
+     * path's handle is made.
+     *
+     * @param topicHandle The topic's handle.
+     * @param id          The path's id.
+     */
+    synchronized void setTopic(int topicHandle, int id) {
+        if (topicHandle == 0 || findTopic(topicHandle) == id) {
+            return;
+        }
+
+        // Keeping the table at most half full so lookups stay short
+        int[] current = topics;
+        int capacity = current.length >>> 1;
+        if ((topicCount + 1) * 2 > capacity) {
+            capacity <<= 1;
+        }
+
+        int[] table = new int[capacity << 1];
+        for (int slot = 0; slot < current.length >>> 1; slot++) {
+            if (current[slot << 1] != 0) {
+                insertTopic(table, current[slot << 1], current[(slot << 1) + 1]);
+            }
+        }
+
+        if (insertTopic(table, topicHandle, id)) {
+            topicCount++;
+        }
+
+        topics = table;
+    }
+
+    private static boolean insertTopic(int[] table, int topicHandle, int id) {
+        int mask = (table.length >>> 1) - 1;
+
+        for (int slot = mix(topicHandle) & mask;; slot = (slot + 1) & mask) {
+            int handle = table[slot << 1];
+            if (handle == 0 || handle == topicHandle) {
+                table[slot << 1] = topicHandle;
+                table[(slot << 1) + 1] = id;
+                return handle == 0;
+            }
+        }
+    }
+
+    // Spreading the handle's bits, since handles for one instance only differ in
+    // their low bits
+    private static int mix(int value) {
+        value *= 0x9E3779B9;
+        return value ^ (value >>> 16);
+    }
+}
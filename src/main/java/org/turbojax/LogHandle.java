@@ -0,0 +1,734 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.GenericSubscriber;
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.NetworkTableValue;
+import edu.wpi.first.networktables.NetworkTablesJNI;
+import edu.wpi.first.networktables.PubSubOption;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.Subscriber;
+import edu.wpi.first.networktables.Topic;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogEntry;
+import edu.wpi.first.wpilibj.DataLogManager;
+import java.util.Objects;
+
+/**
+ * A key in TurboLogger that has already been resolved.
+ *
+ * <p>
+ * Handles are made with {@code TurboLogger.handle(key, defaultValue)}. The
+ * alias, topic, type check, publisher and subscriber for the key are all looked
+ * up once, so setting or getting a value through a handle costs about the same
+ * as the NetworkTables call underneath it.
+ *
+ * <p>
+ * A handle made for an alias shares its publisher and subscriber with the
+ * handle for the parent path, but keeps its own changed flag just like the
+ * alias does.
+ */
+public abstract class LogHandle {
+    /** How many values a path's queue keeps between reads if it isn't set. */
+    static final int DEFAULT_QUEUE_DEPTH = 20;
+
+    private static final NetworkTableValue[] EMPTY_QUEUE = new NetworkTableValue[0];
+
+    /** The key the handle was made for. This can be an alias. */
+    final String key;
+
+    /** The NetworkTables type of the values this handle holds. */
+    final NetworkTableType type;
+
+    /** The NetworkTables type string of the values this handle holds. */
+    final String typeString;
+
+    /** The NetworkTables topic the handle publishes and subscribes to. */
+    final Topic topic;
+
+    /** The handle for the NetworkTables path. This is the handle itself for paths. */
+    final LogHandle owner;
+
+    // The key's id. This is also the key's bit in TurboLogger's dirty bits, which
+    // is set when the path's value changes and cleared when the value is read
+    // through this key.
+    final int id;
+    private volatile boolean detached = false;
+
+    // The ids of the path's handle and each of its aliases' handles, which are
+    // all set when the path's value changes. This is only used on the owner and
+    // is replaced rather than changed, under the owner's lock.
+    private volatile int[] changeIds = new int[0];
+
+    // The publisher and subscriber for the path. These are only used on the owner
+    // and are created the first time they are needed.
+    private volatile Publisher publisher;
+    private volatile Subscriber subscriber;
+    private volatile boolean closed = false;
+
+    // The subscriber that queues every value published to the path, and the
+    // values it returned that haven't been read yet. These are only used on the
+    // owner and are guarded by its lock.
+    private GenericSubscriber queueSubscriber;
+    private int queueDepth = 0;
+    private NetworkTableValue[] queued = EMPTY_QUEUE;
+    private int queuedIndex = 0;
+
+    // The time of the newest value taken from the queue subscriber. When the
+    // subscriber is reopened, values up to this time may show up again in the new
+    // one's first batch, so that batch skips them.
+    private long lastQueuedTime = Long.MIN_VALUE;
+    private long reopenedAfter = Long.MIN_VALUE;
+    private long skipUntil = Long.MIN_VALUE;
+
+    // The DataLog entry values are written to when the path skips NetworkTables.
+    // This is only used on the owner and is created the first time it is needed.
+    private volatile DataLogEntry entry;
+
+    // The last value written to the path, used to skip repeats when dedup is
+    // enabled. These are only used on the owner and are guarded by its lock.
+    private int lastGeneration = 0;
+    private long lastBits;
+    private Object lastRef;
+
+    // The policy for the path, along with the TurboLogger policy version it was
+    // looked up at. This is only used on the owner.
+    private volatile ResolvedPolicy resolvedPolicy = new ResolvedPolicy(-1, null);
+
+    // What the path's policy needs to remember. These are only used on the owner
+    // and are guarded by its lock.
+    private long policyCount = 0;
+    private long policyTime;
+    private double policyValue = Double.NaN;
+
+    // The value staged for the path in the current frame. These are only used on
+    // the owner and are guarded by the frame's lock.
+    boolean staged = false;
+    long stagedBits;
+    Object stagedRef;
+    long stagedTime;
+
+    // The copy staged for the path in an earlier frame, kept after it was
+    // published so the next staged array can be copied into it. Guarded by the
+    // frame's lock.
+    Object stagingBuffer;
+
+    /**
+     * Creates a new handle for values with their own NetworkTables type.
+     *
+     * @param key   The key the handle is for. This can be an alias.
+     * @param type  The NetworkTables type of the values the handle holds.
+     * @param topic The topic for the key's NetworkTables path.
+     * @param owner The handle for the key's NetworkTables path, or null if the key
+     *              is the path.
+     */
+    LogHandle(String key, NetworkTableType type, Topic topic, LogHandle owner) {
+        this(key, type, type.getValueStr(), topic, owner);
+    }
+
+    /**
+     * Creates a new handle.
+     *
+     * @param key        The key the handle is for. This can be an alias.
+     * @param type       The NetworkTables type of the values the handle holds.
+     * @param typeString The NetworkTables type string of the values the handle
+     *                   holds. This is more specific than the type for structs.
+     * @param topic      The topic for the key's NetworkTables path.
+     * @param owner      The handle for the key's NetworkTables path, or null if
+     *                   the key is the path.
+     */
+    LogHandle(String key, NetworkTableType type, String typeString, Topic topic, LogHandle owner) {
+        this.key = key;
+        this.type = type;
+        this.typeString = typeString;
+        this.topic = topic;
+        this.owner = owner == null ? this : owner;
+        this.id = TurboLogger.keys.intern(key);
+        TurboLogger.dirtyBits.ensure(id);
+
+        // Letting the value listener find the path from its topic handle
+        if (owner == null) {
+            TurboLogger.keys.setTopic(topic.getHandle(), id);
+        }
+    }
+
+    /**
+     * Creates the publisher for the path. Only called on the owner.
+     *
+     * @return The new publisher.
+     */
+    abstract Publisher createPublisher();
+
+    /**
+     * Creates the subscriber for the path. Only called on the owner.
+     *
+     * @return The new subscriber.
+     */
+    abstract Subscriber createSubscriber();
+
+    /**
+     * Publishes a value to the path.
+     *
+     * <p>
+     * Primitive values are packed into {@code bits} and everything else is passed
+     * in {@code ref}, so the async queue can hold any value without boxing it.
+     *
+     * @param bits The packed value for primitive handles.
+     * @param ref  The value for array, string and struct handles.
+     * @param time The NT time to publish the value at, in microseconds. 0 uses the
+     *             current time.
+     */
+    abstract void publish(long bits, Object ref, long time);
+
+    /**
+     * Creates the DataLog entry for the path. Only called on the owner.
+     *
+     * @param log  The log to create the entry in.
+     * @param name The name of the entry.
+     *
+     * @return The new entry.
+     */
+    abstract DataLogEntry createEntry(DataLog log, String name);
+
+    /**
+     * Writes a value to the path's DataLog entry.
+     *
+     * @param entry The entry made by {@link #createEntry}.
+     * @param bits  The packed value for primitive handles.
+     * @param ref   The value for array, string and struct handles.
+     * @param time  The time to log the value at, in microseconds. 0 uses the
+     *              current time.
+     */
+    abstract void append(DataLogEntry entry, long bits, Object ref, long time);
+
+    /**
+     * Gets a value as a number, for policies with a min delta.
+     *
+     * @param bits The packed value for primitive handles.
+     *
+     * @return The number, or NaN if the handle's values aren't numbers.
+     */
+    double numericValue(long bits) {
+        return Double.NaN;
+    }
+
+    /**
+     * Checks if a value is the same as the one last written to the path.
+     *
+     * @param last The snapshot of the last value, made by {@link #snapshot}.
+     * @param ref  The value being written.
+     *
+     * @return Whether or not the values are equal.
+     */
+    boolean sameValue(Object last, Object ref) {
+        return Objects.deepEquals(last, ref);
+    }
+
+    /**
+     * Makes a copy of a value that {@link #sameValue} can compare later values
+     * against.
+     *
+     * @param ref The value being written.
+     *
+     * @return The snapshot.
+     */
+    Object snapshot(Object ref) {
+        return copy(ref);
+    }
+
+    /**
+     * Copies a value before it is queued, so the caller can reuse its array while
+     * the value waits to be published.
+     *
+     * @param ref The value to copy.
+     *
+     * @return The copy. Handles for immutable values return the value itself.
+     */
+    Object copy(Object ref) {
+        return ref;
+    }
+
+    /**
+     * Copies a value into the buffer from an earlier copy, so staging the same
+     * size of array every frame doesn't allocate.
+     *
+     * @param ref    The value to copy.
+     * @param buffer An earlier copy that is no longer used, or null.
+     *
+     * @return The copy. This is the buffer if it could be reused.
+     */
+    Object copyInto(Object ref, Object buffer) {
+        return copy(ref);
+    }
+
+    /**
+     * Gets the key this handle was made for.
+     *
+     * @return The key. This can be an alias or a NetworkTables path.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets whether or not the value has changed since the last time it was read
+     * through this key.
+     *
+     * @return Whether or not the value has changed.
+     */
+    public boolean hasChanged() {
+        return !detached && TurboLogger.dirtyBits.get(id);
+    }
+
+    /**
+     * Starts tracking changes for this handle. Called once the handle has been
+     * added to TurboLogger's handles.
+     *
+     * <p>
+     * A key that has never been read counts as changed if its path already has a
+     * value.
+     */
+    final void attach() {
+        if (owner != this) {
+            owner.addChangeId(id);
+        } else {
+            addChangeId(id);
+        }
+
+        if (topic.exists()) {
+            TurboLogger.dirtyBits.set(id);
+        }
+    }
+
+    /**
+     * Stops tracking changes for this handle. Called when the handle is removed
+     * from TurboLogger's handles.
+     */
+    final void detach() {
+        if (detached) {
+            return;
+        }
+
+        detached = true;
+        owner.removeChangeId(id);
+    }
+
+    /**
+     * Gets whether the handle has been removed from TurboLogger, either because
+     * its key was removed or because its alias changed.
+     *
+     * @return Whether or not the handle has been removed.
+     */
+    final boolean isDetached() {
+        return detached;
+    }
+
+    /** Marks the path's value as changed for the path and all of its aliases. */
+    final void markChanged() {
+        for (int changeId : owner.changeIds) {
+            TurboLogger.dirtyBits.set(changeId);
+        }
+    }
+
+    private synchronized void addChangeId(int changeId) {
+        int[] ids = changeIds;
+        int[] grown = new int[ids.length + 1];
+        System.arraycopy(ids, 0, grown, 0, ids.length);
+        grown[ids.length] = changeId;
+        changeIds = grown;
+    }
+
+    private synchronized void removeChangeId(int changeId) {
+        int[] ids = changeIds;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == changeId) {
+                int[] shrunk = new int[ids.length - 1];
+                System.arraycopy(ids, 0, shrunk, 0, i);
+                System.arraycopy(ids, i + 1, shrunk, i, ids.length - i - 1);
+                changeIds = shrunk;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends a value to the path. The value goes straight to the DataLog if the
+     * path skips NetworkTables. Otherwise it is staged if a frame is open, queued
+     * if async logging is enabled, and published right away if neither is.
+     *
+     * @param bits The packed value for primitive handles.
+     * @param ref  The value for array, string and struct handles.
+     */
+    final void write(long bits, Object ref) {
+        write(bits, ref, 0);
+    }
+
+    /**
+     * Sends a value to the path with the time it was measured. The time is passed
+     * through to the publisher or the DataLog entry, and overrides the frame's
+     * time if a frame is open.
+     *
+     * @param bits The packed value for primitive handles.
+     * @param ref  The value for array, string and struct handles.
+     * @param time When the value was measured, in microseconds on the NetworkTables
+     *             clock. 0 means now.
+     */
+    final void write(long bits, Object ref, long time) {
+        LogPolicy policy = owner.policy();
+        if (policy != null && !owner.allowedBy(policy, bits)) {
+            return;
+        }
+
+        int generation = TurboLogger.dedupGeneration;
+        if (generation != 0 && owner.isRepeat(generation, bits, ref)) {
+            return;
+        }
+
+        if (TurboLogger.isDataLogOnly(owner.id)) {
+            appendToLog(bits, ref, time);
+            return;
+        }
+
+        Frame frame = TurboLogger.frame;
+        if (frame.isActive() && frame.stage(this, bits, ref, time)) {
+            return;
+        }
+
+        AsyncLogger async = TurboLogger.asyncLogger;
+        if (async != null) {
+            async.enqueue(this, bits, ref == null ? null : copy(ref), time != 0 ? time : NetworkTablesJNI.now());
+            return;
+        }
+
+        publish(bits, ref, time);
+        markChanged();
+    }
+
+    /**
+     * Gets the path's policy, looking it up again if any policies have changed
+     * since it was last looked up. Only called on the owner.
+     *
+     * @return The policy, or null if the path has none.
+     */
+    private LogPolicy policy() {
+        int version = TurboLogger.policyVersion;
+
+        ResolvedPolicy resolved = resolvedPolicy;
+        if (resolved.version != version) {
+            LogPolicy previous = resolved.policy;
+            resolved = new ResolvedPolicy(version, TurboLogger.findPolicy(id, key));
+            resolvedPolicy = resolved;
+
+            // Starting the new policy fresh, so its first values aren't held back by
+            // the rate or deadband of the old one
+            if (resolved.policy != previous) {
+                resetPolicyState();
+            }
+        }
+
+        return resolved.policy;
+    }
+
+    /** Forgets what the path's policy remembered. Only called on the owner. */
+    final synchronized void resetPolicyState() {
+        policyCount = 0;
+        policyTime = 0;
+        policyValue = Double.NaN;
+    }
+
+    /**
+     * Checks a value against the path's policy, and remembers it if it passes.
+     * Only called on the owner.
+     *
+     * @param policy The path's policy.
+     * @param bits   The packed value for primitive handles.
+     *
+     * @return Whether or not the value should be written.
+     */
+    private synchronized boolean allowedBy(LogPolicy policy, long bits) {
+        // Counting every value, even the ones the other limits drop
+        if (policyCount++ % policy.everyNth != 0) {
+            return false;
+        }
+
+        long now = 0;
+        if (policy.minPeriodNanos != 0) {
+            now = System.nanoTime();
+            if (policyCount > 1 && now - policyTime < policy.minPeriodNanos) {
+                return false;
+            }
+        }
+
+        double value = Double.NaN;
+        if (policy.minDelta != 0) {
+            value = numericValue(bits);
+            if (Math.abs(value - policyValue) < policy.minDelta) {
+                return false;
+            }
+        }
+
+        policyTime = now;
+        policyValue = value;
+        return true;
+    }
+
+    /**
+     * Checks if a value is the same as the last one written to the path while
+     * dedup was enabled, and remembers it if it isn't. Only called on the owner.
+     *
+     * @param generation The current dedup generation. Values remembered in an
+     *                   earlier generation are ignored, since the path may have
+     *                   been written to while dedup was disabled.
+     * @param bits       The packed value for primitive handles.
+     * @param ref        The value for array, string and struct handles.
+     *
+     * @return Whether or not the value is a repeat.
+     */
+    private synchronized boolean isRepeat(int generation, long bits, Object ref) {
+        if (lastGeneration == generation && lastBits == bits && sameValue(lastRef, ref)) {
+            return true;
+        }
+
+        lastGeneration = generation;
+        lastBits = bits;
+        lastRef = ref == null ? null : snapshot(ref);
+        return false;
+    }
+
+    /**
+     * Forgets the last value written to the path, so the next value is never
+     * skipped as a repeat. Called when the async queue throws a value away, since
+     * {@link #isRepeat} remembered it before it was queued. Only called on the
+     * owner.
+     */
+    final synchronized void forgetLastValue() {
+        lastGeneration = 0;
+        lastRef = null;
+    }
+
+    /**
+     * Writes a value to the path's DataLog entry, skipping NetworkTables. The
+     * entry is named after the path's topic.
+     *
+     * @param bits The packed value for primitive handles.
+     * @param ref  The value for array, string and struct handles.
+     * @param time When the value was measured, or 0 for now.
+     */
+    private void appendToLog(long bits, Object ref, long time) {
+        DataLogEntry logEntry = owner.entry;
+        if (logEntry == null) {
+            logEntry = owner.openEntry();
+            if (logEntry == null) {
+                return;
+            }
+        }
+
+        append(logEntry, bits, ref, time);
+    }
+
+    /**
+     * Marks the value as read through this key. This is called before the value
+     * is read, so a value that arrives during the read is still seen as a change.
+     */
+    final void markRead() {
+        TurboLogger.dirtyBits.clear(id);
+    }
+
+    /**
+     * Gets the path's publisher, creating it the first time a value is set.
+     *
+     * @return The publisher, or null if the path has been removed.
+     */
+    final Publisher publisher() {
+        Publisher pub = owner.publisher;
+        if (pub != null) {
+            return pub;
+        }
+
+        return owner.openPublisher();
+    }
+
+    /**
+     * Gets the path's subscriber, creating it the first time a value is read.
+     *
+     * @return The subscriber, or null if the path has been removed.
+     */
+    final Subscriber subscriber() {
+        Subscriber sub = owner.subscriber;
+        if (sub != null) {
+            return sub;
+        }
+
+        return owner.openSubscriber();
+    }
+
+    /**
+     * Starts queueing every value published to the path, or makes the queue
+     * deeper if it is already open with less room. Only called on the owner.
+     *
+     * @param depth How many values to keep between reads. Older values are
+     *              dropped once the queue is full.
+     *
+     * @return Whether or not the queue is open.
+     */
+    final synchronized boolean startQueue(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Queue depth must be at least 1, got " + depth);
+        }
+
+        if (closed) {
+            return false;
+        }
+
+        if (queueSubscriber == null) {
+            queueSubscriber = subscribeQueue(depth);
+            queueDepth = depth;
+            return true;
+        }
+
+        if (depth <= queueDepth) {
+            return true;
+        }
+
+        // NetworkTables can't change the depth of a subscriber, so a deeper one is
+        // opened before the old one is drained and closed. Nothing published in
+        // between is lost, and anything both return is skipped in the new one.
+        GenericSubscriber old = queueSubscriber;
+        queueSubscriber = subscribeQueue(depth);
+        queueDepth = depth;
+
+        NetworkTableValue[] rest = old.readQueue();
+        old.close();
+
+        if (rest.length > 0) {
+            int left = queued.length - queuedIndex;
+            NetworkTableValue[] merged = new NetworkTableValue[left + rest.length];
+            System.arraycopy(queued, queuedIndex, merged, 0, left);
+            System.arraycopy(rest, 0, merged, left, rest.length);
+
+            queued = merged;
+            queuedIndex = 0;
+            lastQueuedTime = rest[rest.length - 1].getTime();
+        }
+
+        reopenedAfter = lastQueuedTime;
+        return true;
+    }
+
+    private GenericSubscriber subscribeQueue(int depth) {
+        return topic.genericSubscribe(typeString, PubSubOption.sendAll(true), PubSubOption.keepDuplicates(true),
+                PubSubOption.pollStorage(depth));
+    }
+
+    /**
+     * Takes the next value from the path's queue, opening the queue the first
+     * time it is read. Only called on the owner.
+     *
+     * <p>
+     * NetworkTables hands back everything queued at once, so values that don't
+     * fit in the caller's arrays are kept here for the next read instead of
+     * being dropped.
+     *
+     * @return The value, or null if the queue is empty or the path has been
+     *         removed.
+     */
+    final synchronized NetworkTableValue pollQueue() {
+        if (queueSubscriber == null && !startQueue(DEFAULT_QUEUE_DEPTH)) {
+            return null;
+        }
+
+        while (true) {
+            if (queuedIndex == queued.length) {
+                queued = queueSubscriber.readQueue();
+                queuedIndex = 0;
+                if (queued.length == 0) {
+                    return null;
+                }
+
+                // Only the first batch after the queue is reopened can repeat values
+                skipUntil = reopenedAfter;
+                reopenedAfter = Long.MIN_VALUE;
+                lastQueuedTime = queued[queued.length - 1].getTime();
+            }
+
+            NetworkTableValue value = queued[queuedIndex];
+            queued[queuedIndex++] = null;
+
+            // Skipping values published with a different type, and values the old
+            // subscriber already returned
+            if (value.getType() == type && value.getTime() > skipUntil) {
+                return value;
+            }
+        }
+    }
+
+    private synchronized Publisher openPublisher() {
+        if (closed) {
+            return null;
+        }
+
+        if (publisher == null) {
+            publisher = createPublisher();
+        }
+
+        return publisher;
+    }
+
+    private synchronized Subscriber openSubscriber() {
+        if (closed) {
+            return null;
+        }
+
+        if (subscriber == null) {
+            subscriber = createSubscriber();
+        }
+
+        return subscriber;
+    }
+
+    private synchronized DataLogEntry openEntry() {
+        if (closed) {
+            return null;
+        }
+
+        if (entry == null) {
+            entry = createEntry(DataLogManager.getLog(), topic.getName());
+        }
+
+        return entry;
+    }
+
+    /**
+     * Closes the path's publisher, subscribers and DataLog entry. Handles for the
+     * path and its aliases do nothing after this.
+     */
+    final synchronized void close() {
+        closed = true;
+
+        if (entry != null) {
+            entry.finish();
+            entry = null;
+        }
+
+        if (publisher != null) {
+            publisher.close();
+            publisher = null;
+        }
+
+        if (subscriber != null) {
+            subscriber.close();
+            subscriber = null;
+        }
+
+        if (queueSubscriber != null) {
+            queueSubscriber.close();
+            queueSubscriber = null;
+            queueDepth = 0;
+            queued = EMPTY_QUEUE;
+            queuedIndex = 0;
+        }
+    }
+
+    /** A path's policy and the policy version it was looked up at. */
+    private record ResolvedPolicy(int version, LogPolicy policy) {
+    }
+}
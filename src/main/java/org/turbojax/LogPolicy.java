@@ -0,0 +1,119 @@
+package org.turbojax;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how often values logged to a key are actually published.
+ *
+ * <p>
+ * Policies are set with {@code TurboLogger.setPolicy(key, policy)} or
+ * {@code TurboLogger.setPrefixPolicy(prefix, policy)}. A value is only
+ * published if it passes every limit in the policy, and values that don't pass
+ * are dropped. Limits can be combined, like
+ * {@code LogPolicy.maxRate(5).withMinDelta(0.01)}.
+ *
+ * <p>
+ * Policies can't be changed once they are made, so one policy can be shared
+ * between as many keys as needed.
+ */
+public final class LogPolicy {
+    // The shortest time between published values, in nanoseconds. 0 means no limit.
+    final long minPeriodNanos;
+
+    // How many values are logged for each one that is published. 1 means every
+    // value is published.
+    final int everyNth;
+
+    // The smallest change a number has to make to be published. 0 means any
+    // change is published.
+    final double minDelta;
+
+    private LogPolicy(long minPeriodNanos, int everyNth, double minDelta) {
+        this.minPeriodNanos = minPeriodNanos;
+        this.everyNth = everyNth;
+        this.minDelta = minDelta;
+    }
+
+    /**
+     * Makes a policy that publishes at most a given number of values per second.
+     *
+     * @param hertz The most values to publish per second.
+     *
+     * @return The new policy.
+     */
+    public static LogPolicy maxRate(double hertz) {
+        return new LogPolicy(0, 1, 0).withMaxRate(hertz);
+    }
+
+    /**
+     * Makes a policy that only publishes every nth value logged.
+     *
+     * @param n How many values are logged for each one that is published. The
+     *          first value is always published.
+     *
+     * @return The new policy.
+     */
+    public static LogPolicy everyNth(int n) {
+        return new LogPolicy(0, 1, 0).withEveryNth(n);
+    }
+
+    /**
+     * Makes a policy that only publishes numbers that have changed by at least a
+     * given amount since the last one that was published. Values that aren't
+     * numbers aren't affected.
+     *
+     * @param delta The smallest change to publish.
+     *
+     * @return The new policy.
+     */
+    public static LogPolicy minDelta(double delta) {
+        return new LogPolicy(0, 1, 0).withMinDelta(delta);
+    }
+
+    /**
+     * Makes a copy of this policy that also publishes at most a given number of
+     * values per second.
+     *
+     * @param hertz The most values to publish per second.
+     *
+     * @return The new policy.
+     */
+    public LogPolicy withMaxRate(double hertz) {
+        if (!(hertz > 0)) {
+            throw new IllegalArgumentException("Max rate must be positive, got " + hertz);
+        }
+
+        return new LogPolicy((long) (TimeUnit.SECONDS.toNanos(1) / hertz), everyNth, minDelta);
+    }
+
+    /**
+     * Makes a copy of this policy that also only publishes every nth value logged.
+     *
+     * @param n How many values are logged for each one that is published.
+     *
+     * @return The new policy.
+     */
+    public LogPolicy withEveryNth(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Every nth must be at least 1, got " + n);
+        }
+
+        return new LogPolicy(minPeriodNanos, n, minDelta);
+    }
+
+    /**
+     * Makes a copy of this policy that also only publishes numbers that have
+     * changed by at least a given amount.
+     *
+     * @param delta The smallest change to publish.
+     *
+     * @return The new policy.
+     */
+    public LogPolicy withMinDelta(double delta) {
+        if (!(delta >= 0)) {
+            throw new IllegalArgumentException("Min delta must not be negative, got " + delta);
+        }
+
+        return new LogPolicy(minPeriodNanos, everyNth, delta);
+    }
+}
@@ -0,0 +1,1394 @@
+package org.turbojax;
+
+import edu.wpi.first.util.struct.Struct;
+import edu.wpi.first.util.struct.StructSerializable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logs and reads keys under a shared prefix, like all of a subsystem's values.
+ *
+ * <p>
+ * Scopes are made with {@code TurboLogger.scope(prefix)}. Each leaf name is
+ * joined to the prefix and resolved to a handle the first time it is used.
+ * After that, {@code scope.log("Velocity", value)} looks the leaf up in the
+ * scope's own small map and sets the handle, without building the full key
+ * string or going through TurboLogger's lookups.
+ *
+ * <p>
+ * Leaf names are compared with equals, so they don't have to be the same string
+ * object each call, but string literals are the fastest.
+ */
+public final class LogScope {
+    private final String prefix;
+
+    // The handle for each leaf that has been used
+    private final ConcurrentHashMap<String, LogHandle> leaves = new ConcurrentHashMap<>();
+
+    // The leaves that couldn't be resolved to the type they were used as, so a
+    // mistyped leaf doesn't build its key and resolve it again every call
+    private final ConcurrentHashMap<String, Mismatch> mismatches = new ConcurrentHashMap<>();
+
+    // The scopes made from this one
+    private final ConcurrentHashMap<String, LogScope> children = new ConcurrentHashMap<>();
+
+    /**
+     * A leaf that failed to resolve.
+     *
+     * @param type    The class the leaf was used as.
+     * @param version The key version when it was resolved.
+     * @param id      The id the mismatch is counted under, or -1 if there is
+     *                none.
+     */
+    private record Mismatch(Class<?> type, int version, int id) {}
+
+    /**
+     * Creates a scope.
+     *
+     * @param prefix The prefix for the scope's keys, ending with a forward slash.
+     */
+    LogScope(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Gets the prefix the scope adds to its keys.
+     *
+     * @return The prefix, ending with a forward slash.
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets a scope for keys under this scope's prefix, like
+     * {@code TurboLogger.scope("Drive").scope("FL")} for "Drive/FL/".
+     *
+     * @param name The name to add to the prefix.
+     *
+     * @return The scope. The same scope is returned every time for a name.
+     */
+    public LogScope scope(String name) {
+        LogScope child = children.get(name);
+        if (child != null) {
+            return child;
+        }
+
+        return children.computeIfAbsent(name, n -> TurboLogger.scope(prefix + n));
+    }
+
+    /**
+     * Logs every field of an object that is marked with {@link Logged} under this
+     * scope.
+     *
+     * @param object The object to log.
+     */
+    public void logObject(Object object) {
+        ObjectLogger.log(this, object);
+    }
+
+    /**
+     * Gets the full key for a leaf.
+     *
+     * @param leaf The leaf name.
+     *
+     * @return The prefix followed by the leaf.
+     */
+    public String key(String leaf) {
+        return prefix + leaf;
+    }
+
+    /**
+     * Gets the cached handle for a leaf.
+     *
+     * @param leaf The leaf name.
+     *
+     * @return The handle, or null if the leaf hasn't been used or its key has been
+     *         removed since.
+     */
+    private LogHandle cached(String leaf) {
+        LogHandle handle = leaves.get(leaf);
+        if (handle != null && handle.isDetached()) {
+            leaves.remove(leaf, handle);
+            return null;
+        }
+
+        return handle;
+    }
+
+    /**
+     * Checks whether a leaf already failed to resolve to a type, and nothing has
+     * changed since that could make it work. A repeat still counts as a type
+     * mismatch, but doesn't build the key or look it up again.
+     *
+     * @param leaf The leaf name.
+     * @param type The class the leaf is being used as.
+     *
+     * @return Whether or not the leaf is known not to resolve to the type.
+     */
+    private boolean mismatched(String leaf, Class<?> type) {
+        Mismatch mismatch = mismatches.get(leaf);
+        if (mismatch == null || mismatch.type() != type) {
+            return false;
+        }
+
+        if (mismatch.version() != TurboLogger.keyVersion.get()) {
+            mismatches.remove(leaf, mismatch);
+            return false;
+        }
+
+        if (mismatch.id() >= 0) {
+            TurboLogger.diagnostics.count(mismatch.id(), Diagnostics.Kind.TYPE_MISMATCH);
+        }
+
+        return true;
+    }
+
+    /**
+     * Caches the handle for a leaf, or that the leaf couldn't be resolved to the
+     * type.
+     *
+     * @param leaf    The leaf name.
+     * @param type    The class the leaf is being used as.
+     * @param version The key version from before the handle was resolved.
+     * @param handle  The handle, or null if it couldn't be made.
+     * @param <H>     The class of the handle.
+     *
+     * @return The handle.
+     */
+    private <H extends LogHandle> H cache(String leaf, Class<?> type, int version, H handle) {
+        if (handle != null) {
+            leaves.put(leaf, handle);
+            mismatches.remove(leaf);
+        } else {
+            mismatches.put(leaf, new Mismatch(type, version, TurboLogger.mismatchId(key(leaf))));
+        }
+
+        return handle;
+    }
+
+    /**
+     * Gets the current key version, to pass to {@link #cache}.
+     *
+     * @return The version.
+     */
+    private static int version() {
+        return TurboLogger.keyVersion.get();
+    }
+
+    // Loggers
+
+    /**
+     * Logs a boolean array to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The boolean array to log.
+     */
+    public void log(String leaf, boolean[] value) {
+        BooleanArrayHandle handle = cached(leaf) instanceof BooleanArrayHandle existing ? existing
+                : mismatched(leaf, BooleanArrayHandle.class) ? null
+                : cache(leaf, BooleanArrayHandle.class, version(), TurboLogger.handle(key(leaf), new boolean[0]));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a boolean array to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The boolean array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, boolean[] value, long timestampMicros) {
+        BooleanArrayHandle handle = cached(leaf) instanceof BooleanArrayHandle existing ? existing
+                : mismatched(leaf, BooleanArrayHandle.class) ? null
+                : cache(leaf, BooleanArrayHandle.class, version(), TurboLogger.handle(key(leaf), new boolean[0]));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a boolean to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The boolean to log.
+     */
+    public void log(String leaf, boolean value) {
+        BooleanHandle handle = cached(leaf) instanceof BooleanHandle existing ? existing
+                : mismatched(leaf, BooleanHandle.class) ? null
+                : cache(leaf, BooleanHandle.class, version(), TurboLogger.handle(key(leaf), false));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a boolean to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The boolean to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, boolean value, long timestampMicros) {
+        BooleanHandle handle = cached(leaf) instanceof BooleanHandle existing ? existing
+                : mismatched(leaf, BooleanHandle.class) ? null
+                : cache(leaf, BooleanHandle.class, version(), TurboLogger.handle(key(leaf), false));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a double array to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The double array to log.
+     */
+    public void log(String leaf, double[] value) {
+        DoubleArrayHandle handle = cached(leaf) instanceof DoubleArrayHandle existing ? existing
+                : mismatched(leaf, DoubleArrayHandle.class) ? null
+                : cache(leaf, DoubleArrayHandle.class, version(), TurboLogger.handle(key(leaf), new double[0]));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a double array to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The double array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, double[] value, long timestampMicros) {
+        DoubleArrayHandle handle = cached(leaf) instanceof DoubleArrayHandle existing ? existing
+                : mismatched(leaf, DoubleArrayHandle.class) ? null
+                : cache(leaf, DoubleArrayHandle.class, version(), TurboLogger.handle(key(leaf), new double[0]));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a double to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The double to log.
+     */
+    public void log(String leaf, double value) {
+        DoubleHandle handle = cached(leaf) instanceof DoubleHandle existing ? existing
+                : mismatched(leaf, DoubleHandle.class) ? null
+                : cache(leaf, DoubleHandle.class, version(), TurboLogger.handle(key(leaf), 0.0));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a double to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The double to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, double value, long timestampMicros) {
+        DoubleHandle handle = cached(leaf) instanceof DoubleHandle existing ? existing
+                : mismatched(leaf, DoubleHandle.class) ? null
+                : cache(leaf, DoubleHandle.class, version(), TurboLogger.handle(key(leaf), 0.0));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a float array to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The float array to log.
+     */
+    public void log(String leaf, float[] value) {
+        FloatArrayHandle handle = cached(leaf) instanceof FloatArrayHandle existing ? existing
+                : mismatched(leaf, FloatArrayHandle.class) ? null
+                : cache(leaf, FloatArrayHandle.class, version(), TurboLogger.handle(key(leaf), new float[0]));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a float array to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The float array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, float[] value, long timestampMicros) {
+        FloatArrayHandle handle = cached(leaf) instanceof FloatArrayHandle existing ? existing
+                : mismatched(leaf, FloatArrayHandle.class) ? null
+                : cache(leaf, FloatArrayHandle.class, version(), TurboLogger.handle(key(leaf), new float[0]));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a float to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The float to log.
+     */
+    public void log(String leaf, float value) {
+        FloatHandle handle = cached(leaf) instanceof FloatHandle existing ? existing
+                : mismatched(leaf, FloatHandle.class) ? null
+                : cache(leaf, FloatHandle.class, version(), TurboLogger.handle(key(leaf), 0.0f));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a float to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The float to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, float value, long timestampMicros) {
+        FloatHandle handle = cached(leaf) instanceof FloatHandle existing ? existing
+                : mismatched(leaf, FloatHandle.class) ? null
+                : cache(leaf, FloatHandle.class, version(), TurboLogger.handle(key(leaf), 0.0f));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a long array to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The long array to log.
+     */
+    public void log(String leaf, long[] value) {
+        IntegerArrayHandle handle = cached(leaf) instanceof IntegerArrayHandle existing ? existing
+                : mismatched(leaf, IntegerArrayHandle.class) ? null
+                : cache(leaf, IntegerArrayHandle.class, version(), TurboLogger.handle(key(leaf), new long[0]));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a long array to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The long array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, long[] value, long timestampMicros) {
+        IntegerArrayHandle handle = cached(leaf) instanceof IntegerArrayHandle existing ? existing
+                : mismatched(leaf, IntegerArrayHandle.class) ? null
+                : cache(leaf, IntegerArrayHandle.class, version(), TurboLogger.handle(key(leaf), new long[0]));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs an int array to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The int array to log.
+     */
+    public void log(String leaf, int[] value) {
+        IntegerArrayHandle handle = cached(leaf) instanceof IntegerArrayHandle existing ? existing
+                : mismatched(leaf, IntegerArrayHandle.class) ? null
+                : cache(leaf, IntegerArrayHandle.class, version(), TurboLogger.handle(key(leaf), new long[0]));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs an int array to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The int array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, int[] value, long timestampMicros) {
+        IntegerArrayHandle handle = cached(leaf) instanceof IntegerArrayHandle existing ? existing
+                : mismatched(leaf, IntegerArrayHandle.class) ? null
+                : cache(leaf, IntegerArrayHandle.class, version(), TurboLogger.handle(key(leaf), new long[0]));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a long to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The long to log.
+     */
+    public void log(String leaf, long value) {
+        IntegerHandle handle = cached(leaf) instanceof IntegerHandle existing ? existing
+                : mismatched(leaf, IntegerHandle.class) ? null
+                : cache(leaf, IntegerHandle.class, version(), TurboLogger.handle(key(leaf), 0L));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a long to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The long to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, long value, long timestampMicros) {
+        IntegerHandle handle = cached(leaf) instanceof IntegerHandle existing ? existing
+                : mismatched(leaf, IntegerHandle.class) ? null
+                : cache(leaf, IntegerHandle.class, version(), TurboLogger.handle(key(leaf), 0L));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs an int to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The int to log.
+     */
+    public void log(String leaf, int value) {
+        log(leaf, (long) value);
+    }
+
+    /**
+     * Logs an int to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The int to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, int value, long timestampMicros) {
+        log(leaf, (long) value, timestampMicros);
+    }
+
+    /**
+     * Logs a string array to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The string array to log.
+     */
+    public void log(String leaf, String[] value) {
+        StringArrayHandle handle = cached(leaf) instanceof StringArrayHandle existing ? existing
+                : mismatched(leaf, StringArrayHandle.class) ? null
+                : cache(leaf, StringArrayHandle.class, version(), TurboLogger.handle(key(leaf), new String[0]));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a string array to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The string array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, String[] value, long timestampMicros) {
+        StringArrayHandle handle = cached(leaf) instanceof StringArrayHandle existing ? existing
+                : mismatched(leaf, StringArrayHandle.class) ? null
+                : cache(leaf, StringArrayHandle.class, version(), TurboLogger.handle(key(leaf), new String[0]));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a string to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The string to log.
+     */
+    public void log(String leaf, String value) {
+        StringHandle handle = cached(leaf) instanceof StringHandle existing ? existing
+                : mismatched(leaf, StringHandle.class) ? null
+                : cache(leaf, StringHandle.class, version(), TurboLogger.handle(key(leaf), ""));
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a string to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The string to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void log(String leaf, String value, long timestampMicros) {
+        StringHandle handle = cached(leaf) instanceof StringHandle existing ? existing
+                : mismatched(leaf, StringHandle.class) ? null
+                : cache(leaf, StringHandle.class, version(), TurboLogger.handle(key(leaf), ""));
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a struct array to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The struct array to log.
+     * @param <T>   An object to log that implements {@link StructSerializable}.
+     */
+    public <T extends StructSerializable> void log(String leaf, T[] value) {
+        StructArrayHandle<T> handle = structArrayHandle(leaf, value.getClass().getComponentType(), null);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a struct array to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The struct array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     * @param <T>             An object to log that implements
+     *                        {@link StructSerializable}.
+     */
+    public <T extends StructSerializable> void log(String leaf, T[] value, long timestampMicros) {
+        StructArrayHandle<T> handle = structArrayHandle(leaf, value.getClass().getComponentType(), null);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a struct to NetworkTables.
+     *
+     * @param leaf  The key to log the value under, without the scope's prefix.
+     * @param value The struct to log.
+     * @param <T>   An object to log that implements {@link StructSerializable}.
+     */
+    public <T extends StructSerializable> void log(String leaf, T value) {
+        StructHandle<T> handle = structHandle(leaf, value.getClass(), null);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a struct to NetworkTables with the time it was measured.
+     *
+     * @param leaf            The key to log the value under, without the scope's
+     *                        prefix.
+     * @param value           The struct to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     * @param <T>             An object to log that implements
+     *                        {@link StructSerializable}.
+     */
+    public <T extends StructSerializable> void log(String leaf, T value, long timestampMicros) {
+        StructHandle<T> handle = structHandle(leaf, value.getClass(), null);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    // Getters
+
+    /**
+     * Gets a boolean array from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The boolean array referenced by the key.
+     */
+    public boolean[] get(String leaf, boolean[] defaultValue) {
+        BooleanArrayHandle handle = cached(leaf) instanceof BooleanArrayHandle existing ? existing
+                : mismatched(leaf, BooleanArrayHandle.class) ? null
+                : cache(leaf, BooleanArrayHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a boolean array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String leaf, boolean[] defaultValue, MutableTimestampedObject<boolean[]> dest) {
+        BooleanArrayHandle handle = cached(leaf) instanceof BooleanArrayHandle existing ? existing
+                : mismatched(leaf, BooleanArrayHandle.class) ? null
+                : cache(leaf, BooleanArrayHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a boolean from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The boolean referenced by the key.
+     */
+    public boolean get(String leaf, boolean defaultValue) {
+        BooleanHandle handle = cached(leaf) instanceof BooleanHandle existing ? existing
+                : mismatched(leaf, BooleanHandle.class) ? null
+                : cache(leaf, BooleanHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a boolean from NetworkTables along with the times it was received
+     * and published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String leaf, boolean defaultValue, MutableTimestampedBoolean dest) {
+        BooleanHandle handle = cached(leaf) instanceof BooleanHandle existing ? existing
+                : mismatched(leaf, BooleanHandle.class) ? null
+                : cache(leaf, BooleanHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a double array from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The double array referenced by the key.
+     */
+    public double[] get(String leaf, double[] defaultValue) {
+        DoubleArrayHandle handle = cached(leaf) instanceof DoubleArrayHandle existing ? existing
+                : mismatched(leaf, DoubleArrayHandle.class) ? null
+                : cache(leaf, DoubleArrayHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a double array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String leaf, double[] defaultValue, MutableTimestampedObject<double[]> dest) {
+        DoubleArrayHandle handle = cached(leaf) instanceof DoubleArrayHandle existing ? existing
+                : mismatched(leaf, DoubleArrayHandle.class) ? null
+                : cache(leaf, DoubleArrayHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a double from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The double referenced by the key.
+     */
+    public double get(String leaf, double defaultValue) {
+        DoubleHandle handle = cached(leaf) instanceof DoubleHandle existing ? existing
+                : mismatched(leaf, DoubleHandle.class) ? null
+                : cache(leaf, DoubleHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a double from NetworkTables along with the times it was received and
+     * published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String leaf, double defaultValue, MutableTimestampedDouble dest) {
+        DoubleHandle handle = cached(leaf) instanceof DoubleHandle existing ? existing
+                : mismatched(leaf, DoubleHandle.class) ? null
+                : cache(leaf, DoubleHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a float array from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The float array referenced by the key.
+     */
+    public float[] get(String leaf, float[] defaultValue) {
+        FloatArrayHandle handle = cached(leaf) instanceof FloatArrayHandle existing ? existing
+                : mismatched(leaf, FloatArrayHandle.class) ? null
+                : cache(leaf, FloatArrayHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a float array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String leaf, float[] defaultValue, MutableTimestampedObject<float[]> dest) {
+        FloatArrayHandle handle = cached(leaf) instanceof FloatArrayHandle existing ? existing
+                : mismatched(leaf, FloatArrayHandle.class) ? null
+                : cache(leaf, FloatArrayHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a float from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The float referenced by the key.
+     */
+    public float get(String leaf, float defaultValue) {
+        FloatHandle handle = cached(leaf) instanceof FloatHandle existing ? existing
+                : mismatched(leaf, FloatHandle.class) ? null
+                : cache(leaf, FloatHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a float from NetworkTables along with the times it was received and
+     * published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String leaf, float defaultValue, MutableTimestampedFloat dest) {
+        FloatHandle handle = cached(leaf) instanceof FloatHandle existing ? existing
+                : mismatched(leaf, FloatHandle.class) ? null
+                : cache(leaf, FloatHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a long array from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The long array referenced by the key.
+     */
+    public long[] get(String leaf, long[] defaultValue) {
+        IntegerArrayHandle handle = cached(leaf) instanceof IntegerArrayHandle existing ? existing
+                : mismatched(leaf, IntegerArrayHandle.class) ? null
+                : cache(leaf, IntegerArrayHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets an integer array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String leaf, long[] defaultValue, MutableTimestampedObject<long[]> dest) {
+        IntegerArrayHandle handle = cached(leaf) instanceof IntegerArrayHandle existing ? existing
+                : mismatched(leaf, IntegerArrayHandle.class) ? null
+                : cache(leaf, IntegerArrayHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets an int array from NetworkTables. Values outside of the int range are
+     * clamped to it.
+     *
+     * <p>
+     * This makes a new int array every call, since the caller may keep it. Use
+     * {@link #getInto(String, int[])} to read into an existing array every loop
+     * without making garbage.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The int array referenced by the key.
+     */
+    public int[] get(String leaf, int[] defaultValue) {
+        IntegerArrayHandle handle = cached(leaf) instanceof IntegerArrayHandle existing ? existing
+                : mismatched(leaf, IntegerArrayHandle.class) ? null
+                : cache(leaf, IntegerArrayHandle.class, version(), TurboLogger.handle(key(leaf), new long[0]));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        long[] longs = handle.getOrNull();
+        return longs == null ? defaultValue : TurboLogger.toInts(longs);
+    }
+
+    /**
+     * Reads an integer array from NetworkTables into an existing int array.
+     *
+     * @param leaf The key to find the value under, without the scope's prefix.
+     * @param dest The array to fill. See {@link IntegerArrayHandle#getInto}.
+     *
+     * @return The length of the value in NetworkTables, or -1 if nothing has been
+     *         published or the key handles a different type.
+     */
+    public int getInto(String leaf, int[] dest) {
+        IntegerArrayHandle handle = cached(leaf) instanceof IntegerArrayHandle existing ? existing
+                : mismatched(leaf, IntegerArrayHandle.class) ? null
+                : cache(leaf, IntegerArrayHandle.class, version(), TurboLogger.handle(key(leaf), new long[0]));
+        if (handle == null) {
+            return -1;
+        }
+
+        return handle.getInto(dest);
+    }
+
+    /**
+     * Reads every boolean published to a key since the last call into existing
+     * arrays. See {@link BooleanHandle#readQueue}.
+     *
+     * @param leaf       The key to read the values from, without the scope's
+     *                   prefix.
+     * @param values     The array to fill with the booleans.
+     * @param timestamps The array to fill with the time each value was
+     *                   published, in microseconds on the NetworkTables clock.
+     *
+     * @return How many values were read.
+     */
+    public int readQueue(String leaf, boolean[] values, long[] timestamps) {
+        BooleanHandle handle = cached(leaf) instanceof BooleanHandle existing ? existing
+                : mismatched(leaf, BooleanHandle.class) ? null
+                : cache(leaf, BooleanHandle.class, version(), TurboLogger.handle(key(leaf), false));
+        if (handle == null) {
+            return 0;
+        }
+
+        return handle.readQueue(values, timestamps);
+    }
+
+    /**
+     * Reads every double published to a key since the last call into existing
+     * arrays. See {@link DoubleHandle#readQueue}.
+     *
+     * @param leaf       The key to read the values from, without the scope's
+     *                   prefix.
+     * @param values     The array to fill with the doubles.
+     * @param timestamps The array to fill with the time each value was
+     *                   published, in microseconds on the NetworkTables clock.
+     *
+     * @return How many values were read.
+     */
+    public int readQueue(String leaf, double[] values, long[] timestamps) {
+        DoubleHandle handle = cached(leaf) instanceof DoubleHandle existing ? existing
+                : mismatched(leaf, DoubleHandle.class) ? null
+                : cache(leaf, DoubleHandle.class, version(), TurboLogger.handle(key(leaf), 0.0));
+        if (handle == null) {
+            return 0;
+        }
+
+        return handle.readQueue(values, timestamps);
+    }
+
+    /**
+     * Reads every float published to a key since the last call into existing
+     * arrays. See {@link FloatHandle#readQueue}.
+     *
+     * @param leaf       The key to read the values from, without the scope's
+     *                   prefix.
+     * @param values     The array to fill with the floats.
+     * @param timestamps The array to fill with the time each value was
+     *                   published, in microseconds on the NetworkTables clock.
+     *
+     * @return How many values were read.
+     */
+    public int readQueue(String leaf, float[] values, long[] timestamps) {
+        FloatHandle handle = cached(leaf) instanceof FloatHandle existing ? existing
+                : mismatched(leaf, FloatHandle.class) ? null
+                : cache(leaf, FloatHandle.class, version(), TurboLogger.handle(key(leaf), 0.0f));
+        if (handle == null) {
+            return 0;
+        }
+
+        return handle.readQueue(values, timestamps);
+    }
+
+    /**
+     * Reads every long published to a key since the last call into existing
+     * arrays. See {@link IntegerHandle#readQueue}.
+     *
+     * @param leaf       The key to read the values from, without the scope's
+     *                   prefix.
+     * @param values     The array to fill with the longs.
+     * @param timestamps The array to fill with the time each value was
+     *                   published, in microseconds on the NetworkTables clock.
+     *
+     * @return How many values were read.
+     */
+    public int readQueue(String leaf, long[] values, long[] timestamps) {
+        IntegerHandle handle = cached(leaf) instanceof IntegerHandle existing ? existing
+                : mismatched(leaf, IntegerHandle.class) ? null
+                : cache(leaf, IntegerHandle.class, version(), TurboLogger.handle(key(leaf), 0L));
+        if (handle == null) {
+            return 0;
+        }
+
+        return handle.readQueue(values, timestamps);
+    }
+
+    /**
+     * Gets a long from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The long referenced by the key.
+     */
+    public long get(String leaf, long defaultValue) {
+        IntegerHandle handle = cached(leaf) instanceof IntegerHandle existing ? existing
+                : mismatched(leaf, IntegerHandle.class) ? null
+                : cache(leaf, IntegerHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets an integer from NetworkTables along with the times it was received
+     * and published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String leaf, long defaultValue, MutableTimestampedInteger dest) {
+        IntegerHandle handle = cached(leaf) instanceof IntegerHandle existing ? existing
+                : mismatched(leaf, IntegerHandle.class) ? null
+                : cache(leaf, IntegerHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets an int from NetworkTables. Values outside of the int range are clamped
+     * to it.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The int referenced by the key.
+     */
+    public int get(String leaf, int defaultValue) {
+        return TurboLogger.clampToInt(get(leaf, (long) defaultValue));
+    }
+
+    /**
+     * Gets a string array from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The string array referenced by the key.
+     */
+    public String[] get(String leaf, String[] defaultValue) {
+        StringArrayHandle handle = cached(leaf) instanceof StringArrayHandle existing ? existing
+                : mismatched(leaf, StringArrayHandle.class) ? null
+                : cache(leaf, StringArrayHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a string array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String leaf, String[] defaultValue, MutableTimestampedObject<String[]> dest) {
+        StringArrayHandle handle = cached(leaf) instanceof StringArrayHandle existing ? existing
+                : mismatched(leaf, StringArrayHandle.class) ? null
+                : cache(leaf, StringArrayHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a string from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The string referenced by the key.
+     */
+    public String get(String leaf, String defaultValue) {
+        StringHandle handle = cached(leaf) instanceof StringHandle existing ? existing
+                : mismatched(leaf, StringHandle.class) ? null
+                : cache(leaf, StringHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a string from NetworkTables along with the times it was received and
+     * published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String leaf, String defaultValue, MutableTimestampedObject<String> dest) {
+        StringHandle handle = cached(leaf) instanceof StringHandle existing ? existing
+                : mismatched(leaf, StringHandle.class) ? null
+                : cache(leaf, StringHandle.class, version(), TurboLogger.handle(key(leaf), defaultValue));
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets an array of struct serialized objects from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     * @param <T>          An object to log that implements
+     *                     {@link StructSerializable}.
+     *
+     * @return The array of struct serialized objects referenced by the key.
+     */
+    public <T extends StructSerializable> T[] get(String leaf, T[] defaultValue) {
+        StructArrayHandle<T> handle = structArrayHandle(leaf, defaultValue.getClass().getComponentType(),
+                defaultValue);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a struct array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     * @param <T>          An object to read that implements
+     *                     {@link StructSerializable}.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public <T extends StructSerializable> boolean getTimestamped(String leaf, T[] defaultValue,
+            MutableTimestampedObject<T[]> dest) {
+        StructArrayHandle<T> handle = structArrayHandle(leaf, defaultValue.getClass().getComponentType(),
+                defaultValue);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a struct serialized object from NetworkTables.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to return if nothing has been published.
+     * @param <T>          An object to log that implements
+     *                     {@link StructSerializable}.
+     *
+     * @return The struct serialized object referenced by the key.
+     */
+    public <T extends StructSerializable> T get(String leaf, T defaultValue) {
+        StructHandle<T> handle = structHandle(leaf, defaultValue.getClass(), defaultValue);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a struct from NetworkTables along with the times it was received and
+     * published.
+     *
+     * @param leaf         The key to find the value under, without the scope's
+     *                     prefix.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     * @param <T>          An object to read that implements
+     *                     {@link StructSerializable}.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public <T extends StructSerializable> boolean getTimestamped(String leaf, T defaultValue,
+            MutableTimestampedObject<T> dest) {
+        StructHandle<T> handle = structHandle(leaf, defaultValue.getClass(), defaultValue);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets whether or not the value has changed since the last time the key was
+     * read from.
+     *
+     * @param leaf The key to check, without the scope's prefix.
+     *
+     * @return Whether or not the value has changed.
+     */
+    public boolean hasChanged(String leaf) {
+        LogHandle handle = cached(leaf);
+        if (handle != null) {
+            return handle.hasChanged();
+        }
+
+        return TurboLogger.hasChanged(key(leaf));
+    }
+
+    /**
+     * Gets the struct handle for a leaf, making sure it handles the given class.
+     *
+     * @param leaf         The leaf name.
+     * @param type         The class being logged or read.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published, if it is created by this call.
+     * @param <T>          The type the struct serializes.
+     *
+     * @return The handle, or null if the class has no struct or the key handles a
+     *         different type.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> StructHandle<T> structHandle(String leaf, Class<?> type, T defaultValue) {
+        if (cached(leaf) instanceof StructHandle<?> existing && existing.struct.getTypeClass() == type) {
+            return (StructHandle<T>) existing;
+        }
+
+        if (mismatched(leaf, type)) {
+            return null;
+        }
+
+        Struct<T> struct = TurboLogger.getStruct(type);
+        if (struct == null) {
+            return null;
+        }
+
+        return cache(leaf, type, version(), TurboLogger.structHandle(key(leaf), struct, defaultValue));
+    }
+
+    /**
+     * Gets the struct array handle for a leaf, making sure it handles the given
+     * class.
+     *
+     * @param leaf         The leaf name.
+     * @param type         The class of the array's elements.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published, if it is created by this call.
+     * @param <T>          The type the struct serializes.
+     *
+     * @return The handle, or null if the class has no struct or the key handles a
+     *         different type.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> StructArrayHandle<T> structArrayHandle(String leaf, Class<?> type, T[] defaultValue) {
+        if (cached(leaf) instanceof StructArrayHandle<?> existing && existing.struct.getTypeClass() == type) {
+            return (StructArrayHandle<T>) existing;
+        }
+
+        if (mismatched(leaf, type.arrayType())) {
+            return null;
+        }
+
+        Struct<T> struct = TurboLogger.getStruct(type);
+        if (struct == null) {
+            return null;
+        }
+
+        return cache(leaf, type.arrayType(), version(), TurboLogger.structArrayHandle(key(leaf), struct, defaultValue));
+    }
+}
@@ -0,0 +1,27 @@
+package org.turbojax;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field to be logged by {@code TurboLogger.logObject(prefix, object)}.
+ *
+ * <p>
+ * The field is logged under the prefix followed by the field's name, unless a
+ * different name is given. Fields can be any type TurboLogger can log. Fields
+ * whose type has {@code @Logged} fields of its own are logged under a nested
+ * prefix.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Logged {
+    /**
+     * The key to log the field under, without the prefix. Defaults to the field's
+     * name.
+     *
+     * @return The key.
+     */
+    String value() default "";
+}
@@ -0,0 +1,59 @@
+package org.turbojax;
+
+/**
+ * Holds a float value along with the times it was received and published,
+ * so timestamped values can be read into the same object every loop.
+ *
+ * <p>
+ * The holder is filled by {@code getTimestamped} and can be reused for every
+ * read. The value and both times always come from the same update.
+ * NetworkTables still makes one object for each read underneath, so reads
+ * aren't completely free of garbage.
+ */
+public final class MutableTimestampedFloat {
+    private float value;
+    private long timestamp;
+    private long serverTime;
+
+    /**
+     * Gets the value.
+     *
+     * @return The value, or the default value if nothing has been published.
+     */
+    public float getValue() {
+        return value;
+    }
+
+    /**
+     * Gets when the value was received, in microseconds on the local
+     * NetworkTables clock.
+     *
+     * @return The time, or 0 if nothing has been published.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets when the value was published, in microseconds on the NetworkTables
+     * server's clock.
+     *
+     * @return The time, or 0 if nothing has been published.
+     */
+    public long getServerTime() {
+        return serverTime;
+    }
+
+    /**
+     * Fills the holder.
+     *
+     * @param value      The value.
+     * @param timestamp  When the value was received.
+     * @param serverTime When the value was published.
+     */
+    void set(float value, long timestamp, long serverTime) {
+        this.value = value;
+        this.timestamp = timestamp;
+        this.serverTime = serverTime;
+    }
+}
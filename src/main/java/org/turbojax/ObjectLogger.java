@@ -0,0 +1,246 @@
+package org.turbojax;
+
+import edu.wpi.first.util.struct.StructSerializable;
+import edu.wpi.first.wpilibj.DriverStation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Logs the {@link Logged} fields of objects.
+ *
+ * <p>
+ * The first time a class is logged, its fields are found with reflection and
+ * turned into a list of loggers, each holding a {@link MethodHandle} getter
+ * for its field. Primitive getters are typed so reading a field doesn't box
+ * it. After that, logging an object only runs the loggers, which log through
+ * the scope's cached handles.
+ */
+final class ObjectLogger {
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    // The loggers for each class's fields
+    private static final ClassValue<FieldLogger[]> plans = new ClassValue<>() {
+        @Override
+        protected FieldLogger[] computeValue(Class<?> type) {
+            return buildPlan(type);
+        }
+    };
+
+    /** Logs one field of an object. */
+    @FunctionalInterface
+    private interface FieldLogger {
+        /**
+         * Logs the field.
+         *
+         * @param scope  The scope to log the field in.
+         * @param object The object to read the field from.
+         *
+         * @throws Throwable Never in practice, but required by
+         *                   {@link MethodHandle#invokeExact}.
+         */
+        void log(LogScope scope, Object object) throws Throwable;
+    }
+
+    private ObjectLogger() {
+    }
+
+    /**
+     * Logs every {@link Logged} field of an object.
+     *
+     * @param scope  The scope to log the fields in.
+     * @param object The object to log.
+     */
+    static void log(LogScope scope, Object object) {
+        for (FieldLogger field : plans.get(object.getClass())) {
+            try {
+                field.log(scope, object);
+            } catch (RuntimeException | Error err) {
+                throw err;
+            } catch (Throwable err) {
+                throw new IllegalStateException(err);
+            }
+        }
+    }
+
+    /**
+     * Finds the {@link Logged} fields of a class and its superclasses and makes a
+     * logger for each one.
+     *
+     * @param type The class to make the loggers for.
+     *
+     * @return The loggers.
+     */
+    private static FieldLogger[] buildPlan(Class<?> type) {
+        List<FieldLogger> loggers = new ArrayList<>();
+
+        // The names of the fields declared by the subclasses already looked at. A
+        // superclass field with one of these names is hidden, so it isn't logged,
+        // the same as in the generated loggers.
+        Set<String> hidden = new HashSet<>();
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            Field[] declared = current.getDeclaredFields();
+
+            for (Field field : declared) {
+                Logged logged = field.getAnnotation(Logged.class);
+                if (logged == null || Modifier.isStatic(field.getModifiers()) || hidden.contains(field.getName())) {
+                    continue;
+                }
+
+                String leaf = logged.value().isEmpty() ? field.getName() : logged.value();
+
+                try {
+                    field.setAccessible(true);
+                    FieldLogger logger = fieldLogger(leaf, field.getType(), lookup.unreflectGetter(field));
+
+                    if (logger == null) {
+                        DriverStation.reportWarning("Cannot log field \"" + field.getName() + "\" of "
+                                + type.getName() + " because TurboLogger can't log " + field.getType().getName()
+                                + ".", false);
+                    } else {
+                        loggers.add(logger);
+                    }
+                } catch (IllegalAccessException | RuntimeException err) {
+                    DriverStation.reportWarning("Cannot log field \"" + field.getName() + "\" of " + type.getName()
+                            + ": " + err, false);
+                }
+            }
+
+            for (Field field : declared) {
+                hidden.add(field.getName());
+            }
+        }
+
+        return loggers.toArray(new FieldLogger[0]);
+    }
+
+    /**
+     * Makes a logger for one field.
+     *
+     * @param leaf   The key to log the field under.
+     * @param type   The field's type.
+     * @param getter A getter for the field.
+     *
+     * @return The logger, or null if the type can't be logged.
+     */
+    private static FieldLogger fieldLogger(String leaf, Class<?> type, MethodHandle getter) {
+        // Typing the getter so it takes any object and returns the field's exact type
+        MethodHandle get = getter.asType(MethodType.methodType(type, Object.class));
+
+        if (type == boolean.class) {
+            return (scope, object) -> scope.log(leaf, (boolean) get.invokeExact(object));
+        } else if (type == double.class) {
+            return (scope, object) -> scope.log(leaf, (double) get.invokeExact(object));
+        } else if (type == float.class) {
+            return (scope, object) -> scope.log(leaf, (float) get.invokeExact(object));
+        } else if (type == int.class) {
+            return (scope, object) -> scope.log(leaf, (int) get.invokeExact(object));
+        } else if (type == long.class) {
+            return (scope, object) -> scope.log(leaf, (long) get.invokeExact(object));
+        }
+
+        // Everything else is read as an object and skipped when it is null
+        MethodHandle getObject = getter.asType(MethodType.methodType(Object.class, Object.class));
+
+        if (type == String.class) {
+            return (scope, object) -> {
+                Object value = (Object) getObject.invokeExact(object);
+                if (value != null) {
+                    scope.log(leaf, (String) value);
+                }
+            };
+        } else if (type == boolean[].class) {
+            return (scope, object) -> {
+                Object value = (Object) getObject.invokeExact(object);
+                if (value != null) {
+                    scope.log(leaf, (boolean[]) value);
+                }
+            };
+        } else if (type == double[].class) {
+            return (scope, object) -> {
+                Object value = (Object) getObject.invokeExact(object);
+                if (value != null) {
+                    scope.log(leaf, (double[]) value);
+                }
+            };
+        } else if (type == float[].class) {
+            return (scope, object) -> {
+                Object value = (Object) getObject.invokeExact(object);
+                if (value != null) {
+                    scope.log(leaf, (float[]) value);
+                }
+            };
+        } else if (type == int[].class) {
+            return (scope, object) -> {
+                Object value = (Object) getObject.invokeExact(object);
+                if (value != null) {
+                    scope.log(leaf, (int[]) value);
+                }
+            };
+        } else if (type == long[].class) {
+            return (scope, object) -> {
+                Object value = (Object) getObject.invokeExact(object);
+                if (value != null) {
+                    scope.log(leaf, (long[]) value);
+                }
+            };
+        } else if (type == String[].class) {
+            return (scope, object) -> {
+                Object value = (Object) getObject.invokeExact(object);
+                if (value != null) {
+                    scope.log(leaf, (String[]) value);
+                }
+            };
+        } else if (type.isArray() && StructSerializable.class.isAssignableFrom(type.getComponentType())) {
+            return (scope, object) -> {
+                Object value = (Object) getObject.invokeExact(object);
+                if (value != null) {
+                    scope.log(leaf, (StructSerializable[]) value);
+                }
+            };
+        } else if (StructSerializable.class.isAssignableFrom(type)) {
+            return (scope, object) -> {
+                Object value = (Object) getObject.invokeExact(object);
+                if (value != null) {
+                    scope.log(leaf, (StructSerializable) value);
+                }
+            };
+        } else if (hasLoggedFields(type)) {
+            // Logging the field's own fields under a nested scope
+            return (scope, object) -> {
+                Object value = (Object) getObject.invokeExact(object);
+                if (value != null) {
+                    log(scope.scope(leaf), value);
+                }
+            };
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks if a class or any of its superclasses has a {@link Logged} field.
+     *
+     * @param type The class to check.
+     *
+     * @return Whether or not the class has a logged field.
+     */
+    private static boolean hasLoggedFields(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Logged.class)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+}
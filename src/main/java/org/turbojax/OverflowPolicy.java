@@ -0,0 +1,18 @@
+package org.turbojax;
+
+/** What the async logger does when a value is logged while its queue is full. */
+public enum OverflowPolicy {
+    /** Throws away the oldest queued value to make room for the new one. */
+    DROP_OLDEST,
+
+    /** Throws away the value being logged and keeps the queue as it is. */
+    DROP_NEWEST,
+
+    /**
+     * Waits on the caller's thread until the drain thread makes room. The caller
+     * spins briefly and then parks in short steps, so it doesn't hold a core
+     * while it waits. Every thread logging to a full queue waits this way,
+     * including {@code TurboLogger.commitFrame()}.
+     */
+    BLOCK
+}
@@ -0,0 +1,422 @@
+package org.turbojax;
+
+import edu.wpi.first.util.struct.Struct;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link Struct} made from the components of a record, for records that
+ * implement {@code StructSerializable} without a {@code struct} field.
+ *
+ * <p>
+ * Components can be primitives other than char, records of the same kind, or
+ * classes with a {@code struct} field of their own. The accessor for each
+ * component is looked up once when the struct is made, and primitive accessors
+ * are typed so packing a record doesn't box its values.
+ *
+ * @param <R> The record the struct serializes.
+ */
+final class RecordStruct<R extends Record> implements Struct<R> {
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    /** Packs and unpacks one component of a record. */
+    private interface Component {
+        /**
+         * Packs the component's value.
+         *
+         * @param bb     The buffer to pack into.
+         * @param record The record to read the value from.
+         *
+         * @throws Throwable Never in practice, but required by
+         *                   {@link MethodHandle#invokeExact}.
+         */
+        void pack(ByteBuffer bb, Object record) throws Throwable;
+
+        /**
+         * Unpacks the component's value.
+         *
+         * @param bb The buffer to unpack from.
+         *
+         * @return The value.
+         */
+        Object unpack(ByteBuffer bb);
+    }
+
+    private final Class<R> type;
+    private final String typeName;
+    private final String schema;
+    private final int size;
+    private final Struct<?>[] nested;
+    private final boolean immutable;
+    private final Component[] components;
+
+    // The canonical constructor, taking the component values as an Object[]
+    private final MethodHandle constructor;
+
+    private RecordStruct(Class<R> type, String schema, int size, Struct<?>[] nested, boolean immutable,
+            Component[] components, MethodHandle constructor) {
+        this.type = type;
+        this.typeName = type.getName().replace('.', '_').replace('$', '_');
+        this.schema = schema;
+        this.size = size;
+        this.nested = nested;
+        this.immutable = immutable;
+        this.components = components;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Makes the struct for a record.
+     *
+     * @param type The record class.
+     *
+     * @return The struct, or null if a component can't be serialized.
+     */
+    static Struct<?> create(Class<?> type) {
+        return create(type, new HashSet<>());
+    }
+
+    /**
+     * Makes the struct for a record.
+     *
+     * @param type     The record class.
+     * @param visiting The records that are being made further up, so a record that
+     *                 contains itself fails instead of recursing forever.
+     *
+     * @return The struct, or null if a component can't be serialized.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Struct<?> create(Class<?> type, Set<Class<?>> visiting) {
+        if (!type.isRecord() || !visiting.add(type)) {
+            return null;
+        }
+
+        try {
+            RecordComponent[] recordComponents = type.getRecordComponents();
+            Component[] components = new Component[recordComponents.length];
+            Class<?>[] parameterTypes = new Class<?>[recordComponents.length];
+            List<Struct<?>> nested = new ArrayList<>();
+            StringBuilder schema = new StringBuilder();
+            int size = 0;
+            boolean immutable = true;
+
+            for (int i = 0; i < recordComponents.length; i++) {
+                RecordComponent recordComponent = recordComponents[i];
+                Class<?> componentType = recordComponent.getType();
+                Method accessorMethod = recordComponent.getAccessor();
+                accessorMethod.setAccessible(true);
+                MethodHandle accessor = lookup.unreflect(accessorMethod);
+
+                parameterTypes[i] = componentType;
+                if (i > 0) {
+                    schema.append(';');
+                }
+
+                String typeName = primitiveTypeName(componentType);
+                if (typeName != null) {
+                    components[i] = primitive(componentType, accessor);
+                    size += primitiveSize(componentType);
+                } else {
+                    // Reusing the struct if another component has the same type
+                    Struct<?> struct = null;
+                    for (Struct<?> existing : nested) {
+                        if (existing.getTypeClass() == componentType) {
+                            struct = existing;
+                        }
+                    }
+
+                    if (struct == null) {
+                        struct = nestedStruct(componentType, visiting);
+                        if (struct == null) {
+                            return null;
+                        }
+
+                        nested.add(struct);
+                    }
+
+                    typeName = struct.getTypeName();
+                    components[i] = nested((Struct) struct, accessor);
+                    size += struct.getSize();
+                    immutable &= struct.isImmutable();
+                }
+
+                schema.append(typeName).append(' ').append(recordComponent.getName());
+            }
+
+            Constructor<?> canonical = type.getDeclaredConstructor(parameterTypes);
+            canonical.setAccessible(true);
+            MethodHandle constructor = lookup.unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, parameterTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+
+            return new RecordStruct(type, schema.toString(), size, nested.toArray(new Struct<?>[0]), immutable,
+                    components, constructor);
+        } catch (IllegalAccessException | NoSuchMethodException | RuntimeException err) {
+            // Records in modules that aren't open to TurboLogger can't be read
+            return null;
+        } finally {
+            visiting.remove(type);
+        }
+    }
+
+    /**
+     * Finds the struct for a component that isn't a primitive.
+     *
+     * @param type     The component's type.
+     * @param visiting The records that are being made further up.
+     *
+     * @return The struct, or null if the type can't be serialized.
+     */
+    private static Struct<?> nestedStruct(Class<?> type, Set<Class<?>> visiting) {
+        try {
+            return (Struct<?>) type.getDeclaredField("struct").get(null);
+        } catch (IllegalAccessException | NoSuchFieldException | ClassCastException | NullPointerException err) {
+            // Making a struct for records that don't have one
+            return create(type, visiting);
+        }
+    }
+
+    /**
+     * Gets the schema name of a primitive type.
+     *
+     * @param type The type.
+     *
+     * @return The name, or null if the type isn't a primitive that structs
+     *         support.
+     */
+    private static String primitiveTypeName(Class<?> type) {
+        if (type == boolean.class) {
+            return "bool";
+        } else if (type == byte.class) {
+            return "int8";
+        } else if (type == short.class) {
+            return "int16";
+        } else if (type == int.class) {
+            return "int32";
+        } else if (type == long.class) {
+            return "int64";
+        } else if (type == float.class) {
+            return "float";
+        } else if (type == double.class) {
+            return "double";
+        }
+
+        return null;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == boolean.class) {
+            return kSizeBool;
+        } else if (type == byte.class) {
+            return kSizeInt8;
+        } else if (type == short.class) {
+            return kSizeInt16;
+        } else if (type == int.class) {
+            return kSizeInt32;
+        } else if (type == long.class) {
+            return kSizeInt64;
+        } else if (type == float.class) {
+            return kSizeFloat;
+        }
+
+        return kSizeDouble;
+    }
+
+    /**
+     * Makes the component for a primitive.
+     *
+     * @param type     The primitive type.
+     * @param accessor The component's accessor.
+     *
+     * @return The component.
+     */
+    private static Component primitive(Class<?> type, MethodHandle accessor) {
+        // Typing the accessor so it takes any object and returns the primitive
+        MethodHandle get = accessor.asType(MethodType.methodType(type, Object.class));
+
+        if (type == boolean.class) {
+            return new Component() {
+                @Override
+                public void pack(ByteBuffer bb, Object record) throws Throwable {
+                    bb.put((boolean) get.invokeExact(record) ? (byte) 1 : (byte) 0);
+                }
+
+                @Override
+                public Object unpack(ByteBuffer bb) {
+                    return bb.get() != 0;
+                }
+            };
+        } else if (type == byte.class) {
+            return new Component() {
+                @Override
+                public void pack(ByteBuffer bb, Object record) throws Throwable {
+                    bb.put((byte) get.invokeExact(record));
+                }
+
+                @Override
+                public Object unpack(ByteBuffer bb) {
+                    return bb.get();
+                }
+            };
+        } else if (type == short.class) {
+            return new Component() {
+                @Override
+                public void pack(ByteBuffer bb, Object record) throws Throwable {
+                    bb.putShort((short) get.invokeExact(record));
+                }
+
+                @Override
+                public Object unpack(ByteBuffer bb) {
+                    return bb.getShort();
+                }
+            };
+        } else if (type == int.class) {
+            return new Component() {
+                @Override
+                public void pack(ByteBuffer bb, Object record) throws Throwable {
+                    bb.putInt((int) get.invokeExact(record));
+                }
+
+                @Override
+                public Object unpack(ByteBuffer bb) {
+                    return bb.getInt();
+                }
+            };
+        } else if (type == long.class) {
+            return new Component() {
+                @Override
+                public void pack(ByteBuffer bb, Object record) throws Throwable {
+                    bb.putLong((long) get.invokeExact(record));
+                }
+
+                @Override
+                public Object unpack(ByteBuffer bb) {
+                    return bb.getLong();
+                }
+            };
+        } else if (type == float.class) {
+            return new Component() {
+                @Override
+                public void pack(ByteBuffer bb, Object record) throws Throwable {
+                    bb.putFloat((float) get.invokeExact(record));
+                }
+
+                @Override
+                public Object unpack(ByteBuffer bb) {
+                    return bb.getFloat();
+                }
+            };
+        }
+
+        return new Component() {
+            @Override
+            public void pack(ByteBuffer bb, Object record) throws Throwable {
+                bb.putDouble((double) get.invokeExact(record));
+            }
+
+            @Override
+            public Object unpack(ByteBuffer bb) {
+                return bb.getDouble();
+            }
+        };
+    }
+
+    /**
+     * Makes the component for a nested struct.
+     *
+     * @param struct   The component's struct.
+     * @param accessor The component's accessor.
+     *
+     * @return The component.
+     */
+    private static Component nested(Struct<Object> struct, MethodHandle accessor) {
+        MethodHandle get = accessor.asType(MethodType.methodType(Object.class, Object.class));
+
+        return new Component() {
+            @Override
+            public void pack(ByteBuffer bb, Object record) throws Throwable {
+                struct.pack(bb, (Object) get.invokeExact(record));
+            }
+
+            @Override
+            public Object unpack(ByteBuffer bb) {
+                return struct.unpack(bb);
+            }
+        };
+    }
+
+    @Override
+    public Class<R> getTypeClass() {
+        return type;
+    }
+
+    /**
+     * Gets the struct's type name, which is the record's binary name with its
+     * dots and dollar signs replaced, like {@code frc_robot_Drive_State}. Using
+     * the full name keeps records with the same simple name, like
+     * {@code Drive.State} and {@code Arm.State}, from sharing a type.
+     */
+    @Override
+    public String getTypeName() {
+        return typeName;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String getSchema() {
+        return schema;
+    }
+
+    @Override
+    public Struct<?>[] getNested() {
+        return nested.clone();
+    }
+
+    @Override
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    @Override
+    public void pack(ByteBuffer bb, R value) {
+        try {
+            for (Component component : components) {
+                component.pack(bb, value);
+            }
+        } catch (RuntimeException | Error err) {
+            throw err;
+        } catch (Throwable err) {
+            throw new IllegalStateException(err);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R unpack(ByteBuffer bb) {
+        Object[] values = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            values[i] = components[i].unpack(bb);
+        }
+
+        try {
+            return (R) (Object) constructor.invokeExact(values);
+        } catch (RuntimeException | Error err) {
+            throw err;
+        } catch (Throwable err) {
+            throw new IllegalStateException(err);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.GenericPublisher;
+import edu.wpi.first.networktables.GenericSubscriber;
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.NetworkTableValue;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.Subscriber;
+import edu.wpi.first.networktables.Topic;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogEntry;
+import edu.wpi.first.util.datalog.StringArrayLogEntry;
+
+/** A {@link LogHandle} for string array values. */
+public final class StringArrayHandle extends LogHandle {
+    private final String[] defaultValue;
+
+    StringArrayHandle(String key, Topic topic, LogHandle owner, String[] defaultValue) {
+        super(key, NetworkTableType.kStringArray, topic, owner);
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    Publisher createPublisher() {
+        return topic.genericPublish(typeString);
+    }
+
+    @Override
+    Subscriber createSubscriber() {
+        return topic.genericSubscribe(typeString);
+    }
+
+    @Override
+    void publish(long bits, Object ref, long time) {
+        GenericPublisher pub = (GenericPublisher) publisher();
+        if (pub != null) {
+            pub.setStringArray((String[]) ref, time);
+        }
+    }
+
+    @Override
+    Object copy(Object ref) {
+        return ((String[]) ref).clone();
+    }
+
+    @Override
+    Object copyInto(Object ref, Object buffer) {
+        String[] value = (String[]) ref;
+        if (buffer instanceof String[] copy && copy.length == value.length) {
+            System.arraycopy(value, 0, copy, 0, value.length);
+            return copy;
+        }
+
+        return value.clone();
+    }
+
+    @Override
+    DataLogEntry createEntry(DataLog log, String name) {
+        return new StringArrayLogEntry(log, name);
+    }
+
+    @Override
+    void append(DataLogEntry entry, long bits, Object ref, long time) {
+        ((StringArrayLogEntry) entry).append((String[]) ref, time);
+    }
+
+    /**
+     * Logs a string array to NetworkTables.
+     *
+     * @param value The string array to log.
+     */
+    public void set(String[] value) {
+        write(0, value);
+    }
+
+    /**
+     * Logs a string array to NetworkTables with the time it was measured.
+     *
+     * @param value           The string array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void set(String[] value, long timestampMicros) {
+        write(0, value, timestampMicros);
+    }
+
+    /**
+     * Gets a string array from NetworkTables.
+     *
+     * @return The string array, or the handle's default value if nothing has been
+     *         published.
+     */
+    public String[] get() {
+        return get(defaultValue);
+    }
+
+    /**
+     * Gets a string array from NetworkTables.
+     *
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The string array referenced by the handle.
+     */
+    public String[] get(String[] defaultValue) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            return defaultValue;
+        }
+
+        markRead();
+
+        return sub.getStringArray(defaultValue);
+    }
+
+    /**
+     * Gets a string array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * @param dest The holder to fill. It is given the handle's default value if
+     *             nothing has been published.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(MutableTimestampedObject<String[]> dest) {
+        return getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a string array from NetworkTables along with the times it was
+     * received and published.
+     *
+     * <p>
+     * NetworkTables makes a new object for the value each time it is read, so
+     * this still allocates once per call. The holder only saves the caller from
+     * making its own.
+     *
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(String[] defaultValue, MutableTimestampedObject<String[]> dest) {
+        GenericSubscriber sub = (GenericSubscriber) subscriber();
+        if (sub == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        markRead();
+
+        // Reading the value and its times in one call, so they are from the same
+        // update
+        NetworkTableValue value = sub.get();
+        if (value.getType() != type) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        dest.set(value.getStringArray(), value.getTime(), value.getServerTime());
+        return true;
+    }
+}
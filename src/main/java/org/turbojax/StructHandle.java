@@ -0,0 +1,208 @@
+package org.turbojax;
+
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.StructPublisher;
+import edu.wpi.first.networktables.StructSubscriber;
+import edu.wpi.first.networktables.StructTopic;
+import edu.wpi.first.networktables.Subscriber;
+import edu.wpi.first.networktables.TimestampedObject;
+import edu.wpi.first.networktables.Topic;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogEntry;
+import edu.wpi.first.util.datalog.StructLogEntry;
+import edu.wpi.first.util.struct.Struct;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A {@link LogHandle} for struct serialized objects.
+ *
+ * @param <T> The type of object the handle holds.
+ */
+public final class StructHandle<T> extends LogHandle {
+    /** The struct used to serialize the values. */
+    final Struct<T> struct;
+
+    private final T defaultValue;
+
+    // Reused to pack values for dedup. Guarded by the owner's lock.
+    private ByteBuffer buffer;
+
+    StructHandle(String key, Topic topic, LogHandle owner, Struct<T> struct, T defaultValue) {
+        super(key, NetworkTableType.kRaw, struct.getTypeString(), topic, owner);
+        this.struct = struct;
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Gets the struct topic for the handle's path.
+     *
+     * @return The struct topic.
+     */
+    private StructTopic<T> structTopic() {
+        return topic.getInstance().getStructTopic(topic.getName(), struct);
+    }
+
+    @Override
+    Publisher createPublisher() {
+        return structTopic().publish();
+    }
+
+    @Override
+    Subscriber createSubscriber() {
+        return structTopic().subscribe(defaultValue);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void publish(long bits, Object ref, long time) {
+        StructPublisher<T> pub = (StructPublisher<T>) publisher();
+        if (pub != null) {
+            pub.set((T) ref, time);
+        }
+    }
+
+    @Override
+    DataLogEntry createEntry(DataLog log, String name) {
+        return StructLogEntry.create(log, name, struct);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void append(DataLogEntry entry, long bits, Object ref, long time) {
+        ((StructLogEntry<T>) entry).append((T) ref, time);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    boolean sameValue(Object last, Object ref) {
+        if (last == null || ref == null) {
+            return last == ref;
+        }
+
+        return pack((T) ref).equals(ByteBuffer.wrap((byte[]) last));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Object snapshot(Object ref) {
+        ByteBuffer packed = pack((T) ref);
+
+        byte[] bytes = new byte[packed.remaining()];
+        packed.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Packs a value into the reused buffer. Structs are compared by their bytes
+     * since struct classes don't always implement equals.
+     *
+     * @param value The value to pack.
+     *
+     * @return The buffer, ready to be read.
+     */
+    private ByteBuffer pack(T value) {
+        int size = struct.getSize();
+        if (buffer == null || buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        buffer.clear();
+        struct.pack(buffer, value);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Logs a struct to NetworkTables.
+     *
+     * @param value The struct to log.
+     */
+    public void set(T value) {
+        write(0, value);
+    }
+
+    /**
+     * Logs a struct to NetworkTables with the time it was measured.
+     *
+     * @param value           The struct to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public void set(T value, long timestampMicros) {
+        write(0, value, timestampMicros);
+    }
+
+    /**
+     * Gets a struct serialized object from NetworkTables.
+     *
+     * @return The object, or the handle's default value if nothing has been
+     *         published.
+     */
+    public T get() {
+        return get(defaultValue);
+    }
+
+    /**
+     * Gets a struct serialized object from NetworkTables.
+     *
+     * @param defaultValue The value to return if nothing has been published.
+     *
+     * @return The struct serialized object referenced by the handle.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(T defaultValue) {
+        StructSubscriber<T> sub = (StructSubscriber<T>) subscriber();
+        if (sub == null) {
+            return defaultValue;
+        }
+
+        markRead();
+
+        return sub.get(defaultValue);
+    }
+
+    /**
+     * Gets a struct from NetworkTables along with the times it was received and
+     * published.
+     *
+     * @param dest The holder to fill. It is given the handle's default value if
+     *             nothing has been published.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public boolean getTimestamped(MutableTimestampedObject<T> dest) {
+        return getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a struct from NetworkTables along with the times it was received and
+     * published.
+     *
+     * <p>
+     * NetworkTables makes a new object for the value each time it is read, so
+     * this still allocates once per call. The holder only saves the caller from
+     * making its own.
+     *
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean getTimestamped(T defaultValue, MutableTimestampedObject<T> dest) {
+        StructSubscriber<T> sub = (StructSubscriber<T>) subscriber();
+        if (sub == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        markRead();
+
+        TimestampedObject<T> value = sub.getAtomic(defaultValue);
+        dest.set(value.value, value.timestamp, value.serverTime);
+        return value.timestamp != 0;
+    }
+}
@@ -6,17 +6,127 @@ import edu.wpi.first.util.struct.StructSerializable;
 import edu.wpi.first.wpilibj.DataLogManager;
 import edu.wpi.first.wpilibj.DriverStation;
 import java.io.File;
-import java.util.HashMap;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TurboLogger {
-    // Hashmaps for NT logging
-    private static final HashMap<String, Long> lastReads = new HashMap<>();
-    private static final HashMap<String, String> aliasToNTPath = new HashMap<>();
+    // The id of each key, along with the path each alias points to and the handle
+    // for each key that has been logged to or read from. The handle for a NT path
+    // holds the path's publisher and subscriber, which are created once and
+    // shared with the handles of its aliases. This is safe to use from multiple
+    // threads at once, and reads never lock.
+    static final KeyRegistry keys = new KeyRegistry();
+
+    // The aliases of each path. This is only used when aliases and paths are
+    // added or removed.
+    private static final ConcurrentHashMap<String, Set<String>> ntPathToAliases = new ConcurrentHashMap<>();
+
+    // The struct for each StructSerializable class. The reflection to find it only
+    // runs the first time a class is logged or read. Records without a struct
+    // field get one made from their components.
+    private static final ClassValue<Struct<?>> structs = new ClassValue<>() {
+        @Override
+        protected Struct<?> computeValue(Class<?> type) {
+            try {
+                // An instance field named struct isn't a struct, like a record
+                // component called "struct"
+                Field field = type.getDeclaredField("struct");
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return RecordStruct.create(type);
+                }
+
+                return (Struct<?>) field.get(null);
+            } catch (NoSuchFieldException err) {
+                return RecordStruct.create(type);
+            } catch (IllegalAccessException | ClassCastException | NullPointerException err) {
+                return null;
+            }
+        }
+    };
+
+    // The scope for each prefix
+    private static final ConcurrentHashMap<String, LogScope> scopes = new ConcurrentHashMap<>();
+
+    // Defaults for handles that are created by a log call
+    private static final boolean[] EMPTY_BOOLEANS = new boolean[0];
+    private static final double[] EMPTY_DOUBLES = new double[0];
+    private static final float[] EMPTY_FLOATS = new float[0];
+    private static final long[] EMPTY_LONGS = new long[0];
+    private static final String[] EMPTY_STRINGS = new String[0];
 
     private static final NetworkTableInstance instance = NetworkTableInstance.getDefault();
     private static final NetworkTable table = instance.getTable("TurboLogger");
 
+    // A bit for each handle that is set when its path's value changes
+    static final DirtyBits dirtyBits = new DirtyBits();
+
+    // Counts problems so that ones that happen every loop are only printed once
+    static final Diagnostics diagnostics = new Diagnostics(instance);
+
+    // Where the TurboLogger table's topic names start in the full NT name
+    private static final int pathStart = table.getPath().length() + 1;
+
+    static {
+        // Marking handles as changed when a value arrives from another client, so
+        // hasChanged doesn't have to ask NetworkTables each time it is called.
+        // Local values mark their handles when they are written.
+        instance.addListener(new String[] { table.getPath() + "/" }, EnumSet.of(NetworkTableEvent.Kind.kValueRemote),
+                TurboLogger::valueChanged);
+
+        // Keeping the cached type of each path up to date when topics are published
+        // or unpublished, locally or remotely
+        instance.addListener(new String[] { table.getPath() + "/" },
+                EnumSet.of(NetworkTableEvent.Kind.kPublish, NetworkTableEvent.Kind.kUnpublish),
+                TurboLogger::topicChanged);
+    }
+
+    // The queue values are published through when async logging is enabled
+    static volatile AsyncLogger asyncLogger;
+
+    // The current dedup generation, or 0 if dedup is disabled. Each time dedup is
+    // enabled this moves to a new generation so values remembered before it was
+    // disabled aren't compared against.
+    static volatile int dedupGeneration = 0;
+    private static int lastDedupGeneration = 0;
+
+    // Whether paths skip NetworkTables and only write to the DataLog, unless they
+    // have their own setting
+    private static volatile boolean dataLogOnly = false;
+
+    // Policies for every path under a prefix. Each path's handle looks its policy
+    // up again whenever the version changes.
+    private static final ConcurrentHashMap<String, LogPolicy> prefixPolicies = new ConcurrentHashMap<>();
+    static volatile int policyVersion = 0;
+
+    // Changes whenever a key's handle, alias or topic type may have changed, so
+    // scopes know when a leaf that failed to resolve is worth trying again
+    static final AtomicInteger keyVersion = new AtomicInteger();
+
+    // The values staged between beginFrame and commitFrame
+    static final Frame frame = new Frame(instance);
+
+    /** Makes a new handle for a key. */
+    @FunctionalInterface
+    private interface HandleFactory<H extends LogHandle> {
+        /**
+         * Makes the handle.
+         *
+         * @param key   The key to make the handle for.
+         * @param topic The topic for the key's NetworkTables path.
+         * @param owner The handle for the key's NetworkTables path, or null if the
+         *              key is the path.
+         *
+         * @return The new handle.
+         */
+        H create(String key, Topic topic, LogHandle owner);
+    }
+
     /**
      * Enables DataLog recording of NT output.
      *
@@ -49,42 +159,331 @@ public class TurboLogger {
         DataLogManager.logNetworkTables(false);
     }
 
-    // Error messages
+    /**
+     * Sets whether logged values skip NetworkTables and are only written to the
+     * DataLog. Keys with their own setting from
+     * {@link #setDataLogOnly(String, boolean)} are not affected.
+     *
+     * <p>
+     * Values written this way go into an entry named after the key's topic (such
+     * as "/TurboLogger/Drive/Velocity"), so they won't show up on dashboards and
+     * can't be read back with get. This is meant for high rate data that is only
+     * needed after the match.
+     *
+     * @param enabled Whether values should only be written to the DataLog.
+     */
+    public static void setDataLogOnly(boolean enabled) {
+        dataLogOnly = enabled;
+    }
+
+    /**
+     * Sets whether values logged to a key skip NetworkTables and are only written
+     * to the DataLog, overriding {@link #setDataLogOnly(boolean)}. The setting
+     * applies to the key's path, so it is shared with all of the path's aliases.
+     *
+     * @param key     The key to change. This can be a NetworkTables path or an
+     *                alias.
+     * @param enabled Whether values should only be written to the DataLog.
+     */
+    public static void setDataLogOnly(String key, boolean enabled) {
+        keys.setDataLogMode(keys.intern(getNTPathFromKey(key)),
+                enabled ? KeyRegistry.DATALOG_ONLY : KeyRegistry.DATALOG_NEVER);
+    }
+
+    /**
+     * Makes a key follow {@link #setDataLogOnly(boolean)} again.
+     *
+     * @param key The key to change. This can be a NetworkTables path or an alias.
+     */
+    public static void clearDataLogOnly(String key) {
+        int id = keys.find(getNTPathFromKey(key));
+        if (id >= 0) {
+            keys.setDataLogMode(id, KeyRegistry.DATALOG_DEFAULT);
+        }
+    }
+
+    /**
+     * Sets the policy for a key, which limits how often values logged to it are
+     * published. This overrides any prefix policy that covers the key. The policy
+     * applies to the key's path, so it is shared with all of the path's aliases.
+     *
+     * @param key    The key to set the policy for. This can be a NetworkTables
+     *               path or an alias.
+     * @param policy The policy, or null to remove the key's policy.
+     */
+    public static synchronized void setPolicy(String key, LogPolicy policy) {
+        int id = keys.intern(getNTPathFromKey(key));
+        keys.setPolicy(id, policy);
+        policyVersion++;
+
+        // Restarting the path's rate and deadband, even if the policy is the same
+        // one it already had
+        LogHandle handle = keys.handle(id);
+        if (handle != null) {
+            handle.owner.resetPolicyState();
+        }
+    }
 
     /**
-     * Reports when a publisher or subscriber have inconsistent types with what is
-     * being logged or read.
+     * Sets the policy for every NetworkTables path that starts with a prefix. If
+     * more than one prefix matches a path, the longest one is used.
      *
-     * @param key   The key being logged to or read.
-     * @param type  The type being logged.
-     * @param isPub Whether or not the issue occurred with a publisher.
+     * @param prefix The start of the paths to set the policy for, like "Drive/".
+     * @param policy The policy, or null to remove the prefix's policy.
      */
-    private static void subTypeMismatch(String key, String type) {
-        if (aliasToNTPath.containsKey(key)) {
-            System.out.printf(
-                    "Error: Cannot subscribe values to the alias \"%s\" of key \"%s\" as it does not handle objects of type %s.\n",
-                    key, aliasToNTPath.get(key), type);
+    public static synchronized void setPrefixPolicy(String prefix, LogPolicy policy) {
+        if (policy == null) {
+            prefixPolicies.remove(prefix);
         } else {
-            System.out.printf(
-                    "Error: Cannot subscribe values to the key \"%s\" as it does not handle objects of type %s.\n", key,
-                    type);
+            prefixPolicies.put(prefix, policy);
         }
+
+        policyVersion++;
     }
 
     /**
-     * Sets the lastReads value of a NetworkTables path and all its aliases to 0.
-     * 
-     * @param ntPath The NetworkTables path to rest. CANNOT be an alias.
+     * Finds the policy for a path. Only called when the policies have changed since
+     * the path's handle last looked.
+     *
+     * @param id     The path's id.
+     * @param ntPath The path.
+     *
+     * @return The policy, or null if the path has none.
      */
-    private static void resetLastReads(String ntPath) {
-        // Restting the lastRead entry for the ntPath and its aliases
-        lastReads.put(ntPath, 0L);
+    static LogPolicy findPolicy(int id, String ntPath) {
+        LogPolicy policy = keys.policy(id);
+        if (policy != null) {
+            return policy;
+        }
 
-        aliasToNTPath.forEach((alias, path) -> {
-            if (ntPath.equals(path)) {
-                lastReads.put(alias, 0L);
+        // Finding the longest prefix that matches the path
+        String bestPrefix = null;
+        for (Map.Entry<String, LogPolicy> entry : prefixPolicies.entrySet()) {
+            String prefix = entry.getKey();
+            if (ntPath.startsWith(prefix) && (bestPrefix == null || prefix.length() > bestPrefix.length())) {
+                bestPrefix = prefix;
+                policy = entry.getValue();
             }
-        });
+        }
+
+        return policy;
+    }
+
+    /**
+     * Gets whether values logged to a path skip NetworkTables.
+     *
+     * @param id The path's id.
+     *
+     * @return Whether values should only be written to the DataLog.
+     */
+    static boolean isDataLogOnly(int id) {
+        int mode = keys.dataLogMode(id);
+        return mode == KeyRegistry.DATALOG_DEFAULT ? dataLogOnly : mode == KeyRegistry.DATALOG_ONLY;
+    }
+
+    /**
+     * Enables async logging with a queue of 1024 values that drops the oldest value
+     * when it is full.
+     *
+     * @see #enableAsync(int, OverflowPolicy)
+     */
+    public static void enableAsync() {
+        enableAsync(1024, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Enables async logging.
+     *
+     * <p>
+     * While async logging is enabled, log calls put the value in a queue and
+     * return, and a background thread publishes it to NetworkTables with the time
+     * it was logged at. Arrays are copied when they are queued, but structs are
+     * not, so a struct object must not be changed after it is logged. Reads are
+     * not affected.
+     *
+     * <p>
+     * If async logging is already enabled, the old queue is drained and replaced.
+     *
+     * @param capacity The number of values the queue can hold. This is rounded up
+     *                 to the next power of two.
+     * @param policy   What to do when a value is logged while the queue is full.
+     */
+    public static synchronized void enableAsync(int capacity, OverflowPolicy policy) {
+        AsyncLogger old = asyncLogger;
+        asyncLogger = new AsyncLogger(capacity, policy);
+
+        if (old != null) {
+            old.stop();
+        }
+    }
+
+    /**
+     * Disables async logging. This waits for every queued value to be published
+     * before returning.
+     */
+    public static synchronized void disableAsync() {
+        AsyncLogger old = asyncLogger;
+        asyncLogger = null;
+
+        if (old != null) {
+            old.stop();
+        }
+    }
+
+    /**
+     * Gets the number of values the async queue has thrown away because it was
+     * full.
+     *
+     * @return The number of dropped values since async logging was last enabled.
+     */
+    public static long getAsyncDroppedCount() {
+        AsyncLogger async = asyncLogger;
+        return async == null ? 0 : async.getDroppedCount();
+    }
+
+    /**
+     * Starts staging logged values instead of publishing them.
+     *
+     * <p>
+     * Until {@link #commitFrame()} is called, each log call only stores its value
+     * in a slot for its path. Logging a path more than once in a frame replaces
+     * the staged value, so only the last one is published. Reads are not
+     * affected, so a value logged in the frame can't be read back until the frame
+     * is committed.
+     *
+     * <p>
+     * Staged arrays are copied, so the caller can reuse them right away. Each path
+     * keeps its copy after it is published and copies the next frame's array into
+     * it, so only a change in length allocates. With async logging the queue keeps
+     * the copy, so every staged array is copied fresh. Strings and structs are
+     * staged as they are.
+     *
+     * <p>
+     * This is meant to be called at the start of each robot loop, with
+     * {@link #commitFrame()} at the end of it.
+     */
+    public static void beginFrame() {
+        frame.begin();
+    }
+
+    /**
+     * Publishes every value staged since {@link #beginFrame()} with the same
+     * timestamp, then flushes NetworkTables once so the whole frame goes out
+     * together. Does nothing if no frame was started.
+     */
+    public static void commitFrame() {
+        frame.commit();
+    }
+
+    /**
+     * Enables dedup, which skips publishing values that are the same as the last
+     * value logged to the same path.
+     *
+     * <p>
+     * Primitives are compared by value without boxing them, arrays and strings are
+     * compared element by element, and structs are compared by their serialized
+     * bytes. Since skipped values aren't published, {@link #hasChanged(String)}
+     * only returns true when the value really changes.
+     *
+     * <p>
+     * Only values logged through TurboLogger are remembered, so a value published
+     * to the same path by something else won't stop a repeat from being skipped.
+     */
+    public static synchronized void enableDedup() {
+        if (dedupGeneration == 0) {
+            // Skipping 0 if the counter ever wraps around
+            lastDedupGeneration = lastDedupGeneration == Integer.MAX_VALUE ? 1 : lastDedupGeneration + 1;
+            dedupGeneration = lastDedupGeneration;
+        }
+    }
+
+    /** Disables dedup, so every logged value is published. */
+    public static synchronized void disableDedup() {
+        dedupGeneration = 0;
+    }
+
+    /**
+     * Marks a path and its aliases as changed when NetworkTables gets a new value
+     * for it from another client. Values logged through TurboLogger mark their
+     * path when they are written, so they aren't listened for. Runs on the
+     * NetworkTables listener thread.
+     *
+     * @param event The value event.
+     */
+    private static void valueChanged(NetworkTableEvent event) {
+        // Finding the path by its topic handle, so the event doesn't build a name
+        int id = keys.findTopic(event.valueData.topic);
+        if (id < 0) {
+            return;
+        }
+
+        LogHandle handle = keys.handle(id);
+        if (handle != null) {
+            handle.markChanged();
+        }
+    }
+
+    /**
+     * Updates the cached type of a path when its topic is published or
+     * unpublished. Runs on the NetworkTables listener thread.
+     *
+     * @param event The topic event.
+     */
+    private static void topicChanged(NetworkTableEvent event) {
+        String ntPath = event.topicInfo.name.substring(pathStart);
+
+        // Paths that have never been used don't have a cached type
+        int id = keys.find(ntPath);
+        if (id < 0) {
+            return;
+        }
+
+        // Forgetting the type so it is looked up again the next time it is needed
+        if (event.is(NetworkTableEvent.Kind.kUnpublish)) {
+            keys.setType(id, null);
+            keyVersion.incrementAndGet();
+            return;
+        }
+
+        NetworkTableType type = event.topicInfo.type;
+        keys.setType(id, type);
+        keyVersion.incrementAndGet();
+
+        // Reporting when something else publishes the path with a different type
+        LogHandle handle = keys.handle(id);
+        if (handle != null && handle.type != type) {
+            pubsubTypeMismatch(id, ntPath, type, handle.type);
+        }
+    }
+
+    // Error messages
+
+    /**
+     * Reports when a key is used with a different type than the one it already
+     * handles. Only the first time for each key builds a message. After that the
+     * mismatch is just counted.
+     *
+     * @param id           The key's id.
+     * @param key          The key being logged to or read.
+     * @param type         The type being logged or read.
+     * @param existingType The type the key already handles.
+     */
+    private static void pubsubTypeMismatch(int id, String key, NetworkTableType type,
+            NetworkTableType existingType) {
+        if (!diagnostics.count(id, Diagnostics.Kind.TYPE_MISMATCH)) {
+            return;
+        }
+
+        String ntPath = getNTPathFromKey(key);
+        String target = ntPath.equals(key) ? "the key \"" + key + "\""
+                : "the alias \"" + key + "\" of key \"" + ntPath + "\"";
+
+        // Two different structs have the same NetworkTables type
+        String handled = type == existingType ? "a different struct type"
+                : "objects of type " + existingType.getValueStr();
+
+        diagnostics.report(id, Diagnostics.Kind.TYPE_MISMATCH, "Cannot use " + type.getValueStr()
+                + " values with " + target + " as it only handles " + handled + ".");
     }
 
     /**
@@ -97,421 +496,1509 @@ public class TurboLogger {
      *         Otherwise it returns the key.
      */
     private static String getNTPathFromKey(String key) {
+        int id = keys.find(key);
+        if (id < 0) {
+            return key;
+        }
+
         // Checking if the key is an alias
-        if (aliasToNTPath.containsKey(key)) {
-            return aliasToNTPath.get(key);
+        int parent = keys.parent(id);
+        return parent < 0 ? key : keys.key(parent);
+    }
+
+    /**
+     * Gets the struct for a {@link StructSerializable} class.
+     * 
+     * @param type The class to get the struct for.
+     * @param <T>  The type the struct serializes.
+     * 
+     * @return The struct, or null if the class has no public struct field and
+     *         isn't a record that one can be made for.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Struct<T> getStruct(Class<?> type) {
+        Struct<T> struct = (Struct<T>) structs.get(type);
+
+        if (struct == null && diagnostics.count(type)) {
+            diagnostics.report(type, "No public instance of struct for the StructSerializable object "
+                    + type.getName() + ", and it isn't a record of primitives and structs.");
         }
 
-        return key;
+        return struct;
     }
 
-    // Loggers
+    /**
+     * Gets the handle for a key, creating it if the key has not been used yet.
+     *
+     * <p>
+     * The alias lookup and the type check against the topic only happen when the
+     * handle is created. Handles for aliases are created along with the handle
+     * for their path, which they share a publisher and subscriber with.
+     *
+     * @param key        The key to get the handle for. This can be a NetworkTables
+     *                   path or an alias.
+     * @param type       The class of handle needed.
+     * @param ntType     The NetworkTables type of the values being used.
+     * @param typeString The NetworkTables type string of the values being used.
+     *                   This is only compared for struct handles, which all have
+     *                   the raw type.
+     * @param factory    Makes the handle if the key doesn't have one yet.
+     * @param <H>        The class of handle needed.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    private static <H extends LogHandle> H resolve(String key, Class<H> type, NetworkTableType ntType,
+            String typeString, HandleFactory<H> factory) {
+        int id = keys.intern(key);
+        LogHandle handle = keys.handle(id);
+
+        while (handle == null) {
+            int parent = keys.parent(id);
+            LogHandle owner = null;
+            Topic topic;
+
+            if (parent < 0) {
+                // Making sure the existing topic's type does not conflict with the one
+                // being used. The type is cached, so a key that keeps being used with
+                // the wrong type doesn't ask NetworkTables every time.
+                NetworkTableType topicType = keys.type(id);
+                if (topicType == null) {
+                    topicType = table.getTopic(key).getType();
+                    keys.setTypeIfAbsent(id, topicType);
+                }
+
+                if (topicType != NetworkTableType.kUnassigned && topicType != ntType) {
+                    pubsubTypeMismatch(id, key, ntType, topicType);
+                    return null;
+                }
+
+                topic = table.getTopic(key);
+
+                // Structs are all raw topics, so their type strings have to match too
+                if (topicType == NetworkTableType.kRaw && !topic.getTypeString().equals(typeString)) {
+                    pubsubTypeMismatch(id, key, ntType, topicType);
+                    return null;
+                }
+            } else {
+                // Getting the handle for the path the alias points to
+                String ntPath = keys.key(parent);
+                owner = resolve(ntPath, type, ntType, typeString, factory);
+                if (owner == null) {
+                    return null;
+                }
+
+                topic = owner.topic;
+            }
 
-    private static void genericLog(String key, NetworkTableValue value) {
-        String ntPath = getNTPathFromKey(key);
+            // Another thread may have made a handle for the key in the meantime. If
+            // that handle was removed again before it could be read, this starts
+            // over.
+            H created = factory.create(key, topic, owner);
+            if (keys.setHandleIfAbsent(id, created)) {
+                created.attach();
+                return created;
+            }
 
-        // Getting the topic
-        Topic topic = table.getTopic(ntPath);
+            handle = keys.handle(id);
+        }
 
-        // Making sure the existing topic's type does not conflict with the one being
-        // logged.
-        if (!topic.getTypeString().equals("") && !topic.getTypeString().equals(value.getType().getValueStr())) {
-            System.out.printf(
-                    "Error: Cannot publish %s values to the key \"%s\" as it only accepts objects of type %s.\n",
-                    value.getType().getValueStr(), key, topic.getTypeString());
-            return;
+        // Making sure the key hasn't already been used for a different type
+        if (!type.isInstance(handle) || handle.type != ntType
+                || (ntType == NetworkTableType.kRaw && !handle.typeString.equals(typeString))) {
+            pubsubTypeMismatch(id, key, ntType, handle.type);
+            return null;
         }
 
-        // Pushing the value
-        GenericPublisher pub = topic.genericPublish(value.getType().getValueStr());
-        pub.set(value);
+        return type.cast(handle);
+    }
+
+    /**
+     * Gets the id that a type mismatch for a key is counted under. This is the
+     * key itself if it has a handle, or else the path it is an alias for.
+     *
+     * @param key The key that failed to resolve.
+     *
+     * @return The id, or -1 if the key has never been used.
+     */
+    static int mismatchId(String key) {
+        int id = keys.find(key);
+        while (id >= 0 && keys.handle(id) == null && keys.parent(id) >= 0) {
+            id = keys.parent(id);
+        }
 
-        // Resetting the lastRead entry for the key and its aliases
-        resetLastReads(ntPath);
+        return id;
     }
 
-    private static NetworkTableValue genericGet(String key, NetworkTableValue defaultValue) {
-        String ntPath = key;
+    // Handles
 
-        // Checking if the key is an alias or not
-        if (aliasToNTPath.containsKey(key)) {
-            ntPath = aliasToNTPath.get(key);
-            System.out.printf("Resolved alias \"%s\" to ntPath \"%s\".\n", key, ntPath);
+    /**
+     * Gets a handle for logging and reading boolean arrays under a key.
+     *
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    public static BooleanArrayHandle handle(String key, boolean[] defaultValue) {
+        if (keys.handle(key) instanceof BooleanArrayHandle handle) {
+            return handle;
         }
 
-        Topic topic = table.getTopic(ntPath);
+        return resolve(key, BooleanArrayHandle.class, NetworkTableType.kBooleanArray,
+                NetworkTableType.kBooleanArray.getValueStr(),
+                (k, topic, owner) -> new BooleanArrayHandle(k, topic, owner, defaultValue));
+    }
 
-        // Making sure the existing topic's type does not conflict with the one being
-        // logged.
-        if (!topic.getTypeString().equals("") && !topic.getTypeString().equals(defaultValue.getType().getValueStr())) {
-            System.out.printf(
-                    "Error: Cannot pull values from the subsciber the key \"%s\" points to as it returns objects of type %s.\n",
-                    key, topic.getTypeString());
-            return defaultValue;
+    /**
+     * Gets a handle for logging and reading booleans under a key.
+     *
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    public static BooleanHandle handle(String key, boolean defaultValue) {
+        if (keys.handle(key) instanceof BooleanHandle handle) {
+            return handle;
         }
 
-        // Updating the lastReads entry
-        lastReads.put(key, System.currentTimeMillis());
+        return resolve(key, BooleanHandle.class, NetworkTableType.kBoolean,
+                NetworkTableType.kBoolean.getValueStr(),
+                (k, topic, owner) -> new BooleanHandle(k, topic, owner, defaultValue));
+    }
+
+    /**
+     * Gets a handle for logging and reading double arrays under a key.
+     *
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    public static DoubleArrayHandle handle(String key, double[] defaultValue) {
+        if (keys.handle(key) instanceof DoubleArrayHandle handle) {
+            return handle;
+        }
 
-        return topic.genericSubscribe().get();
+        return resolve(key, DoubleArrayHandle.class, NetworkTableType.kDoubleArray,
+                NetworkTableType.kDoubleArray.getValueStr(),
+                (k, topic, owner) -> new DoubleArrayHandle(k, topic, owner, defaultValue));
     }
 
     /**
-     * Logs a boolean array to NetworkTables.
+     * Gets a handle for logging and reading doubles under a key.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The boolean array to log.
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     *
+     * @return The handle, or null if the key already handles a different type.
      */
-    public static void log(String key, boolean[] value) {
-        genericLog(key, NetworkTableValue.makeBooleanArray(value));
+    public static DoubleHandle handle(String key, double defaultValue) {
+        if (keys.handle(key) instanceof DoubleHandle handle) {
+            return handle;
+        }
+
+        return resolve(key, DoubleHandle.class, NetworkTableType.kDouble,
+                NetworkTableType.kDouble.getValueStr(),
+                (k, topic, owner) -> new DoubleHandle(k, topic, owner, defaultValue));
     }
 
     /**
-     * Logs a boolean to NetworkTables.
+     * Gets a handle for logging and reading float arrays under a key.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The boolean to log.
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     *
+     * @return The handle, or null if the key already handles a different type.
      */
-    public static void log(String key, boolean value) {
-        genericLog(key, NetworkTableValue.makeBoolean(value));
+    public static FloatArrayHandle handle(String key, float[] defaultValue) {
+        if (keys.handle(key) instanceof FloatArrayHandle handle) {
+            return handle;
+        }
+
+        return resolve(key, FloatArrayHandle.class, NetworkTableType.kFloatArray,
+                NetworkTableType.kFloatArray.getValueStr(),
+                (k, topic, owner) -> new FloatArrayHandle(k, topic, owner, defaultValue));
     }
 
     /**
-     * Logs a double array to NetworkTables.
+     * Gets a handle for logging and reading floats under a key.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The double array to log.
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     *
+     * @return The handle, or null if the key already handles a different type.
      */
-    public static void log(String key, double[] value) {
-        genericLog(key, NetworkTableValue.makeDoubleArray(value));
+    public static FloatHandle handle(String key, float defaultValue) {
+        if (keys.handle(key) instanceof FloatHandle handle) {
+            return handle;
+        }
+
+        return resolve(key, FloatHandle.class, NetworkTableType.kFloat,
+                NetworkTableType.kFloat.getValueStr(),
+                (k, topic, owner) -> new FloatHandle(k, topic, owner, defaultValue));
+    }
+
+    /**
+     * Gets a handle for logging and reading integer arrays under a key.
+     *
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    public static IntegerArrayHandle handle(String key, long[] defaultValue) {
+        if (keys.handle(key) instanceof IntegerArrayHandle handle) {
+            return handle;
+        }
+
+        return resolve(key, IntegerArrayHandle.class, NetworkTableType.kIntegerArray,
+                NetworkTableType.kIntegerArray.getValueStr(),
+                (k, topic, owner) -> new IntegerArrayHandle(k, topic, owner, defaultValue));
+    }
+
+    /**
+     * Gets a handle for logging and reading integers under a key.
+     *
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    public static IntegerHandle handle(String key, long defaultValue) {
+        if (keys.handle(key) instanceof IntegerHandle handle) {
+            return handle;
+        }
+
+        return resolve(key, IntegerHandle.class, NetworkTableType.kInteger,
+                NetworkTableType.kInteger.getValueStr(),
+                (k, topic, owner) -> new IntegerHandle(k, topic, owner, defaultValue));
+    }
+
+    /**
+     * Gets a handle for logging and reading string arrays under a key.
+     *
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    public static StringArrayHandle handle(String key, String[] defaultValue) {
+        if (keys.handle(key) instanceof StringArrayHandle handle) {
+            return handle;
+        }
+
+        return resolve(key, StringArrayHandle.class, NetworkTableType.kStringArray,
+                NetworkTableType.kStringArray.getValueStr(),
+                (k, topic, owner) -> new StringArrayHandle(k, topic, owner, defaultValue));
+    }
+
+    /**
+     * Gets a handle for logging and reading strings under a key.
+     *
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    public static StringHandle handle(String key, String defaultValue) {
+        if (keys.handle(key) instanceof StringHandle handle) {
+            return handle;
+        }
+
+        return resolve(key, StringHandle.class, NetworkTableType.kString,
+                NetworkTableType.kString.getValueStr(),
+                (k, topic, owner) -> new StringHandle(k, topic, owner, defaultValue));
+    }
+
+    /**
+     * Gets a handle for logging and reading arrays of struct serialized objects
+     * under a key.
+     *
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     * @param <T>          An object that implements {@link StructSerializable}.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    public static <T extends StructSerializable> StructArrayHandle<T> handle(String key, T[] defaultValue) {
+        Struct<T> struct = getStruct(defaultValue.getClass().getComponentType());
+        if (struct == null) {
+            return null;
+        }
+
+        return structArrayHandle(key, struct, defaultValue);
+    }
+
+    /**
+     * Gets a handle for logging and reading struct serialized objects under a key.
+     *
+     * @param key          The key to get a handle for. This can be a NetworkTables
+     *                     path or an alias.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published. This is only used if the handle is created
+     *                     by this call.
+     * @param <T>          An object that implements {@link StructSerializable}.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    public static <T extends StructSerializable> StructHandle<T> handle(String key, T defaultValue) {
+        Struct<T> struct = getStruct(defaultValue.getClass());
+        if (struct == null) {
+            return null;
+        }
+
+        return structHandle(key, struct, defaultValue);
+    }
+
+    /**
+     * Gets the struct array handle for a key, creating it if the key has not been
+     * used yet.
+     *
+     * @param key          The key to get the handle for.
+     * @param struct       The struct of the objects being logged or read.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published.
+     * @param <T>          The type the struct serializes.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> StructArrayHandle<T> structArrayHandle(String key, Struct<T> struct, T[] defaultValue) {
+        if (keys.handle(key) instanceof StructArrayHandle<?> handle && handle.struct == struct) {
+            return (StructArrayHandle<T>) handle;
+        }
+
+        return resolve(key, StructArrayHandle.class, NetworkTableType.kRaw, struct.getTypeString() + "[]",
+                (k, topic, owner) -> new StructArrayHandle<>(k, topic, owner, struct, defaultValue));
+    }
+
+    /**
+     * Gets the struct handle for a key, creating it if the key has not been used
+     * yet.
+     *
+     * @param key          The key to get the handle for.
+     * @param struct       The struct of the objects being logged or read.
+     * @param defaultValue The value the handle returns if nothing has been
+     *                     published.
+     * @param <T>          The type the struct serializes.
+     *
+     * @return The handle, or null if the key already handles a different type.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> StructHandle<T> structHandle(String key, Struct<T> struct, T defaultValue) {
+        if (keys.handle(key) instanceof StructHandle<?> handle && handle.struct == struct) {
+            return (StructHandle<T>) handle;
+        }
+
+        return resolve(key, StructHandle.class, NetworkTableType.kRaw, struct.getTypeString(),
+                (k, topic, owner) -> new StructHandle<>(k, topic, owner, struct, defaultValue));
+    }
+
+    /**
+     * Gets a scope for logging and reading keys under a prefix.
+     *
+     * <p>
+     * The scope caches the handle for each key it is used with, so
+     * {@code scope.log("Velocity", value)} doesn't have to build the
+     * "Drive/FL/Velocity" string or look it up after the first call.
+     *
+     * @param prefix The prefix to put in front of the scope's keys, like
+     *               "Drive/FL". A forward slash is added between the prefix and
+     *               each key.
+     *
+     * @return The scope. The same scope is returned every time for a prefix.
+     */
+    public static LogScope scope(String prefix) {
+        String normalized = prefix.endsWith("/") ? prefix : prefix + "/";
+
+        LogScope scope = scopes.get(normalized);
+        if (scope != null) {
+            return scope;
+        }
+
+        return scopes.computeIfAbsent(normalized, LogScope::new);
+    }
+
+    /**
+     * Logs every field of an object that is marked with {@link Logged}.
+     *
+     * <p>
+     * Each field is logged under the prefix followed by its name, so a field
+     * called "velocity" in an object logged with the prefix "Drive/FL" is logged
+     * to "Drive/FL/velocity". The fields of a class are only looked up the first
+     * time an object of that class is logged.
+     *
+     * @param prefix The prefix to log the fields under.
+     * @param object The object to log.
+     */
+    public static void logObject(String prefix, Object object) {
+        ObjectLogger.log(scope(prefix), object);
+    }
+
+    // Loggers
+
+    /**
+     * Logs a boolean array to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The boolean array to log.
+     */
+    public static void log(String key, boolean[] value) {
+        BooleanArrayHandle handle = handle(key, EMPTY_BOOLEANS);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a boolean array to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The boolean array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, boolean[] value, long timestampMicros) {
+        BooleanArrayHandle handle = handle(key, EMPTY_BOOLEANS);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a boolean to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The boolean to log.
+     */
+    public static void log(String key, boolean value) {
+        BooleanHandle handle = handle(key, false);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a boolean to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The boolean to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, boolean value, long timestampMicros) {
+        BooleanHandle handle = handle(key, false);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a double array to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The double array to log.
+     */
+    public static void log(String key, double[] value) {
+        DoubleArrayHandle handle = handle(key, EMPTY_DOUBLES);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a double array to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The double array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, double[] value, long timestampMicros) {
+        DoubleArrayHandle handle = handle(key, EMPTY_DOUBLES);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a double to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The double to log.
+     */
+    public static void log(String key, double value) {
+        DoubleHandle handle = handle(key, 0.0);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a double to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The double to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, double value, long timestampMicros) {
+        DoubleHandle handle = handle(key, 0.0);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a float array to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The float array to log.
+     */
+    public static void log(String key, float[] value) {
+        FloatArrayHandle handle = handle(key, EMPTY_FLOATS);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a float array to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The float array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, float[] value, long timestampMicros) {
+        FloatArrayHandle handle = handle(key, EMPTY_FLOATS);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a float to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The float to log.
+     */
+    public static void log(String key, float value) {
+        FloatHandle handle = handle(key, 0.0f);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a float to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The float to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, float value, long timestampMicros) {
+        FloatHandle handle = handle(key, 0.0f);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs an int array to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The int array to log.
+     */
+    public static void log(String key, int[] value) {
+        IntegerArrayHandle handle = handle(key, EMPTY_LONGS);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs an int array to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The int array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, int[] value, long timestampMicros) {
+        IntegerArrayHandle handle = handle(key, EMPTY_LONGS);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs an int to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The int to log.
+     */
+    public static void log(String key, int value) {
+        IntegerHandle handle = handle(key, 0L);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs an int to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The int to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, int value, long timestampMicros) {
+        IntegerHandle handle = handle(key, 0L);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a long array to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The long array to log.
+     */
+    public static void log(String key, long[] value) {
+        IntegerArrayHandle handle = handle(key, EMPTY_LONGS);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a long array to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The long array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, long[] value, long timestampMicros) {
+        IntegerArrayHandle handle = handle(key, EMPTY_LONGS);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a long to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The long to log.
+     */
+    public static void log(String key, long value) {
+        IntegerHandle handle = handle(key, 0L);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a long to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The long to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, long value, long timestampMicros) {
+        IntegerHandle handle = handle(key, 0L);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a string array to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The string array to log.
+     */
+    public static void log(String key, String[] value) {
+        StringArrayHandle handle = handle(key, EMPTY_STRINGS);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a string array to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The string array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, String[] value, long timestampMicros) {
+        StringArrayHandle handle = handle(key, EMPTY_STRINGS);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a string to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The string to log.
+     */
+    public static void log(String key, String value) {
+        StringHandle handle = handle(key, "");
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a string to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The string to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     */
+    public static void log(String key, String value, long timestampMicros) {
+        StringHandle handle = handle(key, "");
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a struct array to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The struct array to log.
+     * @param <T>   An object to log that implements {@link StructSerializable}.
+     */
+    public static <T extends StructSerializable> void log(String key,
+            T[] value) {
+        // Finding the struct for this StructSerializable object.
+        Struct<T> struct = getStruct(value.getClass().getComponentType());
+        if (struct == null) {
+            return;
+        }
+
+        StructArrayHandle<T> handle = structArrayHandle(key, struct, null);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a struct array to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The struct array to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     * @param <T>             An object to log that implements
+     *                        {@link StructSerializable}.
+     */
+    public static <T extends StructSerializable> void log(String key,
+            T[] value, long timestampMicros) {
+        // Finding the struct for this StructSerializable object.
+        Struct<T> struct = getStruct(value.getClass().getComponentType());
+        if (struct == null) {
+            return;
+        }
+
+        StructArrayHandle<T> handle = structArrayHandle(key, struct, null);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    /**
+     * Logs a struct to NetworkTables.
+     *
+     * @param key   The key to log the value under. This can be a NetworkTables path
+     *              or an alias.
+     * @param value The struct to log.
+     * @param <T>   An object to log that implements {@link StructSerializable}.
+     */
+    public static <T extends StructSerializable> void log(String key, T value) {
+        // Finding the struct for this StructSerializable object.
+        Struct<T> struct = getStruct(value.getClass());
+        if (struct == null) {
+            return;
+        }
+
+        StructHandle<T> handle = structHandle(key, struct, null);
+        if (handle != null) {
+            handle.set(value);
+        }
+    }
+
+    /**
+     * Logs a struct to NetworkTables with the time it was measured.
+     *
+     * @param key             The key to log the value under. This can be a
+     *                        NetworkTables path or an alias.
+     * @param value           The struct to log.
+     * @param timestampMicros When the value was measured, in microseconds on the
+     *                        NetworkTables clock. 0 means now.
+     * @param <T>             An object to log that implements
+     *                        {@link StructSerializable}.
+     */
+    public static <T extends StructSerializable> void log(String key, T value, long timestampMicros) {
+        // Finding the struct for this StructSerializable object.
+        Struct<T> struct = getStruct(value.getClass());
+        if (struct == null) {
+            return;
+        }
+
+        StructHandle<T> handle = structHandle(key, struct, null);
+        if (handle != null) {
+            handle.set(value, timestampMicros);
+        }
+    }
+
+    // Getters
+
+    /**
+     * Gets a boolean array from NetworkTables.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to return if the subscriber doesn't exist.
+     *
+     * @return The boolean array referenced by the key
+     */
+    public static boolean[] get(String key, boolean[] defaultValue) {
+        BooleanArrayHandle handle = handle(key, EMPTY_BOOLEANS);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a boolean array from NetworkTables along with the times it was
+     * received and published. The holder can be reused every loop, but
+     * NetworkTables still makes one object for each read.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public static boolean getTimestamped(String key, boolean[] defaultValue, MutableTimestampedObject<boolean[]> dest) {
+        BooleanArrayHandle handle = handle(key, EMPTY_BOOLEANS);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a boolean from NetworkTables.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to return if the subscriber doesn't exist.
+     *
+     * @return The boolean referenced by the key.
+     */
+    public static boolean get(String key, boolean defaultValue) {
+        BooleanHandle handle = handle(key, false);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a boolean from NetworkTables along with the times it was received
+     * and published. The holder can be reused every loop, but NetworkTables
+     * still makes one object for each read.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public static boolean getTimestamped(String key, boolean defaultValue, MutableTimestampedBoolean dest) {
+        BooleanHandle handle = handle(key, false);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a double array from NetworkTables.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to return if the subscriber doesn't exist.
+     *
+     * @return The double array referenced by the key.
+     */
+    public static double[] get(String key, double[] defaultValue) {
+        DoubleArrayHandle handle = handle(key, EMPTY_DOUBLES);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a double array from NetworkTables along with the times it was
+     * received and published. The holder can be reused every loop, but
+     * NetworkTables still makes one object for each read.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public static boolean getTimestamped(String key, double[] defaultValue, MutableTimestampedObject<double[]> dest) {
+        DoubleArrayHandle handle = handle(key, EMPTY_DOUBLES);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
+    }
+
+    /**
+     * Gets a double from NetworkTables.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to return if the subscriber doesn't exist.
+     *
+     * @return The double referenced by the key.
+     */
+    public static double get(String key, double defaultValue) {
+        DoubleHandle handle = handle(key, 0.0);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
+    }
+
+    /**
+     * Gets a double from NetworkTables along with the times it was received and
+     * published. The holder can be reused every loop, but NetworkTables still
+     * makes one object for each read.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public static boolean getTimestamped(String key, double defaultValue, MutableTimestampedDouble dest) {
+        DoubleHandle handle = handle(key, 0.0);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
     }
 
     /**
-     * Logs a double to NetworkTables.
+     * Gets a float array from NetworkTables.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The double to log.
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to return if the subscriber doesn't exist.
+     *
+     * @return The float array referenced by the key.
      */
-    public static void log(String key, double value) {
-        genericLog(key, NetworkTableValue.makeDouble(value));
+    public static float[] get(String key, float[] defaultValue) {
+        FloatArrayHandle handle = handle(key, EMPTY_FLOATS);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
     }
 
     /**
-     * Logs a float array to NetworkTables.
+     * Gets a float array from NetworkTables along with the times it was
+     * received and published. The holder can be reused every loop, but
+     * NetworkTables still makes one object for each read.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The float array to log.
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
      */
-    public static void log(String key, float[] value) {
-        genericLog(key, NetworkTableValue.makeFloatArray(value));
+    public static boolean getTimestamped(String key, float[] defaultValue, MutableTimestampedObject<float[]> dest) {
+        FloatArrayHandle handle = handle(key, EMPTY_FLOATS);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
     }
 
     /**
-     * Logs a float to NetworkTables.
+     * Gets a float from NetworkTables.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The float to log.
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to return if the subscriber doesn't exist.
+     *
+     * @return The float referenced by the key.
      */
-    public static void log(String key, float value) {
-        genericLog(key, NetworkTableValue.makeFloat(value));
+    public static float get(String key, float defaultValue) {
+        FloatHandle handle = handle(key, 0.0f);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
     }
 
     /**
-     * Logs an int array to NetworkTables.
+     * Gets a float from NetworkTables along with the times it was received and
+     * published. The holder can be reused every loop, but NetworkTables still
+     * makes one object for each read.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The int array to log.
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     *
+     * @return Whether or not a value has been published.
      */
-    public static void log(String key, int[] value) {
-        // Converting the int array to a long array
-        long[] new_value = new long[value.length];
-        for (int i = 0; i < value.length; i++) {
-            new_value[i] = value[i];
+    public static boolean getTimestamped(String key, float defaultValue, MutableTimestampedFloat dest) {
+        FloatHandle handle = handle(key, 0.0f);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
         }
 
-        genericLog(key, NetworkTableValue.makeIntegerArray(new_value));
+        return handle.getTimestamped(defaultValue, dest);
     }
 
     /**
-     * Logs an int to NetworkTables.
+     * Gets an int array from NetworkTables. Values outside of the int range are
+     * clamped to it.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The int to log.
+     * <p>
+     * This makes a new int array every call, since the caller may keep it. Use
+     * {@link #getInto(String, int[])} to read into an existing array every loop
+     * without making garbage.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to return if the subscriber doesn't exist.
+     *
+     * @return The integer array referenced by the key.
      */
-    public static void log(String key, int value) {
-        genericLog(key, NetworkTableValue.makeInteger(value));
+    public static int[] get(String key, int[] defaultValue) {
+        IntegerArrayHandle handle = handle(key, EMPTY_LONGS);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        long[] subscriberLongs = handle.getOrNull();
+        if (subscriberLongs == null) {
+            return defaultValue;
+        }
+
+        return toInts(subscriberLongs);
     }
 
     /**
-     * Logs a string array to NetworkTables.
+     * Converts a long array to an int array, limiting each value to the integer
+     * min and max.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The string array to log.
+     * @param longs The long array to convert.
+     *
+     * @return The new int array.
      */
-    public static void log(String key, String[] value) {
-        genericLog(key, NetworkTableValue.makeStringArray(value));
+    static int[] toInts(long[] longs) {
+        int[] ints = new int[longs.length];
+        for (int i = 0; i < longs.length; i++) {
+            ints[i] = clampToInt(longs[i]);
+        }
+
+        return ints;
     }
 
     /**
-     * Logs a string to NetworkTables.
+     * Reads an integer array from NetworkTables into an existing int array, so
+     * reading it every loop doesn't allocate a new one.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The string to log.
+     * @param key  The key to find the value under.
+     * @param dest The array to fill. If the value is longer than it, only the start
+     *             of the value is copied. Values outside of the int range are
+     *             clamped to it.
+     *
+     * @return The length of the value in NetworkTables, or -1 if nothing has been
+     *         published or the key handles a different type. dest is left alone
+     *         if this is -1.
      */
-    public static void log(String key, String value) {
-        genericLog(key, NetworkTableValue.makeString(value));
+    public static int getInto(String key, int[] dest) {
+        IntegerArrayHandle handle = handle(key, EMPTY_LONGS);
+        if (handle == null) {
+            return -1;
+        }
+
+        return handle.getInto(dest);
     }
 
     /**
-     * Logs a struct array to NetworkTables.
+     * Reads every boolean published to a key since the last call into existing
+     * arrays, so values published faster than the robot loop aren't lost. See
+     * {@link BooleanHandle#readQueue}.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The struct array to log.
-     * @param <T>   An object to log that implements {@link StructSerializable}.
+     * @param key        The key to read the values from.
+     * @param values     The array to fill with the booleans.
+     * @param timestamps The array to fill with the time each value was
+     *                   published, in microseconds on the NetworkTables clock.
+     *
+     * @return How many values were read.
      */
-    @SuppressWarnings("unchecked")
-    public static <T extends StructSerializable> void log(String key,
-            T[] value) {
-        String ntPath = getNTPathFromKey(key);
-
-        // Finding the struct for this StructSerializable object.
-        Struct<T> struct = null;
-        try {
-            struct = (Struct<T>) value.getClass().getComponentType()
-                    .getDeclaredField("struct").get(value);
-        } catch (IllegalAccessException | NoSuchFieldException err) {
-            DriverStation.reportError(
-                    "No public instance of struct for the StructSerializable object "
-                            + value.getClass().getName(),
-                    err.getStackTrace());
-            return;
+    public static int readQueue(String key, boolean[] values, long[] timestamps) {
+        BooleanHandle handle = handle(key, false);
+        if (handle == null) {
+            return 0;
         }
 
-        // Getting the StructArrayTopic
-        StructArrayTopic<T> topic = table.getStructArrayTopic(key, struct);
+        return handle.readQueue(values, timestamps);
+    }
 
-        // Making sure the topic points to the right type of StructSerializable object.
-        // This will be false if the key has already been used under a different name.
-        if (!topic.getTypeString().equals(struct.getTypeString())) {
-            System.out.printf("Error: Cannot publish values to the key \"%s\" as it only accepts objects of type %s.\n",
-                    key, topic.getTypeString());
-            return;
+    /**
+     * Reads every double published to a key since the last call into existing
+     * arrays, so values published faster than the robot loop aren't lost. See
+     * {@link DoubleHandle#readQueue}.
+     *
+     * @param key        The key to read the values from.
+     * @param values     The array to fill with the doubles.
+     * @param timestamps The array to fill with the time each value was
+     *                   published, in microseconds on the NetworkTables clock.
+     *
+     * @return How many values were read.
+     */
+    public static int readQueue(String key, double[] values, long[] timestamps) {
+        DoubleHandle handle = handle(key, 0.0);
+        if (handle == null) {
+            return 0;
         }
 
-        // Pushing the value
-        topic.publish().set(value);
-
-        // Resetting the lastRead entry for the key and its aliases
-        resetLastReads(ntPath);
+        return handle.readQueue(values, timestamps);
     }
 
     /**
-     * Logs a struct to NetworkTables.
+     * Reads every float published to a key since the last call into existing
+     * arrays, so values published faster than the robot loop aren't lost. See
+     * {@link FloatHandle#readQueue}.
      *
-     * @param key   The key to log the value under. This can be a NetworkTables path
-     *              or an alias.
-     * @param value The struct to log.
-     * @param <T>   An object to log that implements {@link StructSerializable}.
+     * @param key        The key to read the values from.
+     * @param values     The array to fill with the floats.
+     * @param timestamps The array to fill with the time each value was
+     *                   published, in microseconds on the NetworkTables clock.
+     *
+     * @return How many values were read.
      */
-    @SuppressWarnings("unchecked")
-    public static <T extends StructSerializable> void log(String key, T value) {
-        String ntPath = getNTPathFromKey(key);
-
-        // Finding the struct for this StructSerializable object.
-        Struct<T> struct = null;
-
-        try {
-            struct = (Struct<T>) value.getClass().getDeclaredField("struct")
-                    .get(value);
-        } catch (IllegalAccessException | NoSuchFieldException err) {
-            DriverStation.reportError(
-                    "No public instance of struct for the StructSerializable object "
-                            + value.getClass().getName(),
-                    err.getStackTrace());
-            return;
+    public static int readQueue(String key, float[] values, long[] timestamps) {
+        FloatHandle handle = handle(key, 0.0f);
+        if (handle == null) {
+            return 0;
         }
 
-        // Getting the StructTopic
-        StructTopic<T> topic = table.getStructTopic(ntPath, struct);
+        return handle.readQueue(values, timestamps);
+    }
 
-        // Making sure the topic points to the right type of StructSerializable object.
-        // This will be false if the key has already been used under a different name.
-        if (!topic.getTypeString().equals(struct.getTypeString())) {
-            System.out.printf("Error: Cannot publish values to the key \"%s\" as it only accepts objects of type %s.\n",
-                    key, topic.getTypeString());
-            return;
+    /**
+     * Reads every long published to a key since the last call into existing
+     * arrays, so values published faster than the robot loop aren't lost. See
+     * {@link IntegerHandle#readQueue}.
+     *
+     * @param key        The key to read the values from.
+     * @param values     The array to fill with the longs.
+     * @param timestamps The array to fill with the time each value was
+     *                   published, in microseconds on the NetworkTables clock.
+     *
+     * @return How many values were read.
+     */
+    public static int readQueue(String key, long[] values, long[] timestamps) {
+        IntegerHandle handle = handle(key, 0L);
+        if (handle == null) {
+            return 0;
         }
 
-        // Pushing the value
-        topic.publish().set(value);
-
-        // Resetting the lastRead entry for the key and its aliases
-        resetLastReads(ntPath);
+        return handle.readQueue(values, timestamps);
     }
 
-    // Getters
-
     /**
-     * Gets a boolean array from NetworkTables.
+     * Gets an int from NetworkTables.
      *
      * @param key          The key to find the value under.
      * @param defaultValue The value to return if the subscriber doesn't exist.
      *
-     * @return The boolean array referenced by the key
+     * @return The int referenced by the key.
      */
-    public static boolean[] get(String key, boolean[] defaultValue) {
-        return genericGet(key, NetworkTableValue.makeBooleanArray(defaultValue)).getBooleanArray();
+    public static int get(String key, int defaultValue) {
+        IntegerHandle handle = handle(key, 0L);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        // Converting the subscriber output to an int and limiting the min and max
+        // values to the integer min and max.
+        return clampToInt(handle.get(defaultValue));
     }
 
     /**
-     * Gets a boolean from NetworkTables.
+     * Converts a long to an int, limiting it to the integer min and max.
      *
-     * @param key          The key to find the value under.
-     * @param defaultValue The value to return if the subscriber doesn't exist.
+     * @param value The long to convert.
      *
-     * @return The boolean referenced by the key.
+     * @return The clamped int.
      */
-    public static boolean get(String key, boolean defaultValue) {
-        return genericGet(key, NetworkTableValue.makeBoolean(defaultValue)).getBoolean();
+    static int clampToInt(long value) {
+        if (value > Integer.MAX_VALUE)
+            return Integer.MAX_VALUE;
+        if (value < Integer.MIN_VALUE)
+            return Integer.MIN_VALUE;
+
+        return (int) value;
     }
 
     /**
-     * Gets a double array from NetworkTables.
+     * Gets a long array from NetworkTables.
      *
      * @param key          The key to find the value under.
      * @param defaultValue The value to return if the subscriber doesn't exist.
      *
-     * @return The double array referenced by the key.
+     * @return The long array referenced by the key.
      */
-    public static double[] get(String key, double[] defaultValue) {
-        return genericGet(key, NetworkTableValue.makeDoubleArray(defaultValue)).getDoubleArray();
+    public static long[] get(String key, long[] defaultValue) {
+        IntegerArrayHandle handle = handle(key, EMPTY_LONGS);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
     }
 
     /**
-     * Gets a double from NetworkTables.
+     * Gets an integer array from NetworkTables along with the times it was
+     * received and published. The holder can be reused every loop, but
+     * NetworkTables still makes one object for each read.
      *
      * @param key          The key to find the value under.
-     * @param defaultValue The value to return if the subscriber doesn't exist.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
      *
-     * @return The double referenced by the key.
+     * @return Whether or not a value has been published.
      */
-    public static double get(String key, double defaultValue) {
-        return genericGet(key, NetworkTableValue.makeDouble(defaultValue)).getDouble();
+    public static boolean getTimestamped(String key, long[] defaultValue, MutableTimestampedObject<long[]> dest) {
+        IntegerArrayHandle handle = handle(key, EMPTY_LONGS);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
     }
 
     /**
-     * Gets a float array from NetworkTables.
+     * Gets a long from NetworkTables.
      *
      * @param key          The key to find the value under.
      * @param defaultValue The value to return if the subscriber doesn't exist.
      *
-     * @return The float array referenced by the key.
+     * @return The long referenced by the key.
      */
-    public static float[] get(String key, float[] defaultValue) {
-        return genericGet(key, NetworkTableValue.makeFloatArray(defaultValue)).getFloatArray();
+    public static long get(String key, long defaultValue) {
+        IntegerHandle handle = handle(key, 0L);
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
     }
 
     /**
-     * Gets a float from NetworkTables.
+     * Gets an integer from NetworkTables along with the times it was received
+     * and published. The holder can be reused every loop, but NetworkTables
+     * still makes one object for each read.
      *
      * @param key          The key to find the value under.
-     * @param defaultValue The value to return if the subscriber doesn't exist.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
      *
-     * @return The float referenced by the key.
+     * @return Whether or not a value has been published.
      */
-    public static float get(String key, float defaultValue) {
-        return genericGet(key, NetworkTableValue.makeFloat(defaultValue)).getFloat();
+    public static boolean getTimestamped(String key, long defaultValue, MutableTimestampedInteger dest) {
+        IntegerHandle handle = handle(key, 0L);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
     }
 
     /**
-     * Gets an int array from NetworkTables.
+     * Gets a string array from NetworkTables.
      *
      * @param key          The key to find the value under.
      * @param defaultValue The value to return if the subscriber doesn't exist.
      *
-     * @return The integer array referenced by the key.
+     * @return The string array referenced by the key.
      */
-    public static int[] get(String key, int[] defaultValue) {
-        // Converting the int[] to a long[]
-        long[] newDefault = new long[defaultValue.length];
-        for (int i = 0; i < defaultValue.length; i++) {
-            newDefault[i] = defaultValue[i];
-        }
-
-        long[] subscriberLongs = genericGet(key, NetworkTableValue.makeIntegerArray(newDefault)).getIntegerArray();
-
-        // Converting the subscriber output to an int array and limiting the min and max
-        // values to the integer min and max
-        int[] subscriberInts = new int[subscriberLongs.length];
-        for (int i = 0; i < subscriberLongs.length; i++) {
-            long subscriberLong = subscriberLongs[i];
-
-            // Enforcing limits
-            if (subscriberLong > Integer.MAX_VALUE)
-                subscriberLong = Integer.MAX_VALUE;
-            if (subscriberLong < Integer.MIN_VALUE)
-                subscriberLong = Integer.MIN_VALUE;
-
-            subscriberInts[i] = (int) subscriberLong;
+    public static String[] get(String key, String[] defaultValue) {
+        StringArrayHandle handle = handle(key, EMPTY_STRINGS);
+        if (handle == null) {
+            return defaultValue;
         }
 
-        return subscriberInts;
+        return handle.get(defaultValue);
     }
 
     /**
-     * Gets an int from NetworkTables.
+     * Gets a string array from NetworkTables along with the times it was
+     * received and published. The holder can be reused every loop, but
+     * NetworkTables still makes one object for each read.
      *
      * @param key          The key to find the value under.
-     * @param defaultValue The value to return if the subscriber doesn't exist.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
      *
-     * @return The int referenced by the key.
+     * @return Whether or not a value has been published.
      */
-    public static int get(String key, int defaultValue) {
-        long subscriberLong = genericGet(key, NetworkTableValue.makeInteger(defaultValue)).getInteger();
-
-        // Converting the subscriber output to an int and limiting the min and max
-        // values to the integer min and max.
-        if (subscriberLong > Integer.MAX_VALUE)
-            subscriberLong = Integer.MAX_VALUE;
-        if (subscriberLong < Integer.MIN_VALUE)
-            subscriberLong = Integer.MIN_VALUE;
+    public static boolean getTimestamped(String key, String[] defaultValue, MutableTimestampedObject<String[]> dest) {
+        StringArrayHandle handle = handle(key, EMPTY_STRINGS);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
 
-        return (int) subscriberLong;
+        return handle.getTimestamped(defaultValue, dest);
     }
 
     /**
-     * Gets a string array from NetworkTables.
+     * Gets a string from NetworkTables.
      *
      * @param key          The key to find the value under.
      * @param defaultValue The value to return if the subscriber doesn't exist.
      *
-     * @return The string array referenced by the key.
+     * @return The string referenced by the key.
      */
-    public static String[] get(String key, String[] defaultValue) {
-        return genericGet(key, NetworkTableValue.makeStringArray(defaultValue)).getStringArray();
+    public static String get(String key, String defaultValue) {
+        StringHandle handle = handle(key, "");
+        if (handle == null) {
+            return defaultValue;
+        }
+
+        return handle.get(defaultValue);
     }
 
     /**
-     * Gets a string from NetworkTables.
+     * Gets a string from NetworkTables along with the times it was received and
+     * published. The holder can be reused every loop, but NetworkTables still
+     * makes one object for each read.
      *
      * @param key          The key to find the value under.
-     * @param defaultValue The value to return if the subscriber doesn't exist.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
      *
-     * @return The string referenced by the key.
+     * @return Whether or not a value has been published.
      */
-    public static String get(String key, String defaultValue) {
-        return genericGet(key, NetworkTableValue.makeString(defaultValue)).getString();
+    public static boolean getTimestamped(String key, String defaultValue, MutableTimestampedObject<String> dest) {
+        StringHandle handle = handle(key, "");
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
+
+        return handle.getTimestamped(defaultValue, dest);
     }
 
     /**
@@ -525,42 +2012,52 @@ public class TurboLogger {
      * @return The array of {@link StructSerializable} objects referenced by the
      *         key.
      */
-    @SuppressWarnings("unchecked")
     public static <T extends StructSerializable> T[] get(String key,
             T[] defaultValue) {
-        String ntPath = key;
-
-        // Checking if the key is an alias or not
-        if (aliasToNTPath.containsKey(key)) {
-            ntPath = aliasToNTPath.get(key);
+        // Finding the struct for this StructSerializable object.
+        Struct<T> struct = getStruct(defaultValue.getClass().getComponentType());
+        if (struct == null) {
+            return defaultValue;
         }
 
-        // Finding the struct for this StructSerializable object.
-        Struct<T> struct = null;
-        try {
-            struct = (Struct<T>) defaultValue.getClass().getComponentType()
-                    .getDeclaredField("struct").get(defaultValue);
-        } catch (IllegalAccessException | NoSuchFieldException err) {
-            DriverStation.reportError(
-                    "No public instance of struct for the StructSerializable object "
-                            + defaultValue.getClass().getName(),
-                    err.getStackTrace());
+        StructArrayHandle<T> handle = structArrayHandle(key, struct, defaultValue);
+        if (handle == null) {
             return defaultValue;
         }
 
-        StructArrayTopic<T> topic = table.getStructArrayTopic(ntPath, struct);
+        return handle.get(defaultValue);
+    }
 
-        // Making sure the topic points to the right type of StructSerializable object.
-        // This will be false if the key has already been used under a different name.
-        if (!topic.getTypeString().equals(struct.getTypeString())) {
-            subTypeMismatch(ntPath, "StructArray");
-            return defaultValue;
+    /**
+     * Gets a struct array from NetworkTables along with the times it was
+     * received and published. The holder can be reused every loop, but
+     * NetworkTables still makes one object for each read.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     * @param <T>          An object to read that implements
+     *                     {@link StructSerializable}.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public static <T extends StructSerializable> boolean getTimestamped(String key, T[] defaultValue,
+            MutableTimestampedObject<T[]> dest) {
+        // Finding the struct for this StructSerializable object.
+        Struct<T> struct = getStruct(defaultValue.getClass().getComponentType());
+        if (struct == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
         }
 
-        // Updating the lastReads entry
-        lastReads.put(key, System.currentTimeMillis());
+        StructArrayHandle<T> handle = structArrayHandle(key, struct, defaultValue);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
 
-        return topic.subscribe(defaultValue).get();
+        return handle.getTimestamped(defaultValue, dest);
     }
 
     /**
@@ -573,43 +2070,52 @@ public class TurboLogger {
      *
      * @return The struct serialized object referenced by the key.
      */
-    @SuppressWarnings("unchecked")
     public static <T extends StructSerializable> T get(String key,
             T defaultValue) {
-        String ntPath = key;
-
-        // Checking if the key is an alias or not
-        if (aliasToNTPath.containsKey(key)) {
-            ntPath = aliasToNTPath.get(key);
+        // Finding the struct for this StructSerializable object.
+        Struct<T> struct = getStruct(defaultValue.getClass());
+        if (struct == null) {
+            return defaultValue;
         }
 
-        // Finding the struct for this StructSerializable object.
-        Struct<T> struct = null;
-
-        try {
-            struct = (Struct<T>) defaultValue.getClass()
-                    .getDeclaredField("struct").get(defaultValue);
-        } catch (IllegalAccessException | NoSuchFieldException err) {
-            DriverStation.reportError(
-                    "No public instance of struct for the StructSerializable object "
-                            + defaultValue.getClass().getName(),
-                    err.getStackTrace());
+        StructHandle<T> handle = structHandle(key, struct, defaultValue);
+        if (handle == null) {
             return defaultValue;
         }
 
-        StructTopic<T> topic = table.getStructTopic(ntPath, struct);
+        return handle.get(defaultValue);
+    }
 
-        // Making sure the topic points to the right type of StructSerializable object.
-        // This will be false if the key has already been used under a different name.
-        if (!topic.getTypeString().equals(struct.getTypeString())) {
-            subTypeMismatch(ntPath, "Struct");
-            return defaultValue;
+    /**
+     * Gets a struct from NetworkTables along with the times it was received and
+     * published. The holder can be reused every loop, but NetworkTables still
+     * makes one object for each read.
+     *
+     * @param key          The key to find the value under.
+     * @param defaultValue The value to fill the holder with if nothing has been
+     *                     published.
+     * @param dest         The holder to fill.
+     * @param <T>          An object to read that implements
+     *                     {@link StructSerializable}.
+     *
+     * @return Whether or not a value has been published.
+     */
+    public static <T extends StructSerializable> boolean getTimestamped(String key, T defaultValue,
+            MutableTimestampedObject<T> dest) {
+        // Finding the struct for this StructSerializable object.
+        Struct<T> struct = getStruct(defaultValue.getClass());
+        if (struct == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
         }
 
-        // Updating the lastReads entry
-        lastReads.put(key, System.currentTimeMillis());
+        StructHandle<T> handle = structHandle(key, struct, defaultValue);
+        if (handle == null) {
+            dest.set(defaultValue, 0, 0);
+            return false;
+        }
 
-        return topic.subscribe(defaultValue).get();
+        return handle.getTimestamped(defaultValue, dest);
     }
 
     /**
@@ -622,14 +2128,23 @@ public class TurboLogger {
      * @return Whether or not the logged value has changed.
      */
     public static boolean hasChanged(String key) {
-        String ntPath = getNTPathFromKey(key);
+        int id = keys.find(key);
+        if (id < 0) {
+            return false;
+        }
 
-        // Checking if the ntPath has been published.
-        if (lastReads.containsKey(key)) {
-            // Comparing the time the value was last changed to the time it was last read.
-            Topic topic = table.getTopic(ntPath);
-            return lastReads.get(key) < topic.genericSubscribe()
-                    .getLastChange();
+        // Checking if the key has been logged to or read from.
+        LogHandle handle = keys.handle(id);
+        if (handle != null) {
+            return handle.hasChanged();
+        }
+
+        // Aliases that haven't been used yet have never been read, so any value
+        // their path has counts as a change.
+        int parent = keys.parent(id);
+        if (parent >= 0) {
+            LogHandle owner = keys.handle(parent);
+            return owner != null && owner.topic.exists();
         }
 
         return false;
@@ -640,7 +2155,8 @@ public class TurboLogger {
      *
      * <p>
      * If the key is an alias, it removes the parent NetworkTables path and all
-     * other aliases.
+     * other aliases. The path's policy and DataLog-only setting are removed too,
+     * but prefix policies still apply if the path is logged again.
      *
      * @param key The key to remove. It can be an alias or a NetworkTables path.
      */
@@ -651,11 +2167,44 @@ public class TurboLogger {
         Topic topic = table.getTopic(ntPath);
         table.removeListener(topic.getHandle());
 
-        lastReads.remove(ntPath);
+        // Closing the publisher and subscriber for the ntPath
+        int id = keys.find(ntPath);
+        LogHandle handle = id < 0 ? null : keys.removeHandle(id);
+        if (handle != null) {
+            handle.owner.close();
+            handle.detach();
+        }
+
+        if (id >= 0) {
+            keys.setType(id, null);
+
+            // Dropping the path's own settings, so logging it again starts fresh
+            keys.setDataLogMode(id, KeyRegistry.DATALOG_DEFAULT);
+            if (keys.policy(id) != null) {
+                synchronized (TurboLogger.class) {
+                    keys.setPolicy(id, null);
+                    policyVersion++;
+                }
+            }
+        }
+
+        keyVersion.incrementAndGet();
 
         // Removing all the aliases for the ntPath
-        aliasToNTPath.entrySet()
-                .removeIf(entry -> entry.getValue().equals(ntPath));
+        Set<String> aliases = ntPathToAliases.remove(ntPath);
+        if (aliases == null) {
+            return;
+        }
+
+        for (String alias : aliases) {
+            int aliasId = keys.find(alias);
+            keys.removeParent(aliasId);
+
+            LogHandle aliasHandle = keys.removeHandle(aliasId);
+            if (aliasHandle != null) {
+                aliasHandle.detach();
+            }
+        }
     }
 
     /**
@@ -664,8 +2213,8 @@ public class TurboLogger {
      * readability in the code.
      *
      * <p>
-     * Aliases have their own entry in the lastRead table. This means that when you
-     * get an alias, it does not mark the main key or any other aliases for that key
+     * Aliases have their own last read time. This means that when you get an
+     * alias, it does not mark the main key or any other aliases for that key
      * as read.
      *
      * @param ntPath The path to create an alias for.
@@ -681,19 +2230,39 @@ public class TurboLogger {
             return;
         }
 
-        // Checking that the alias doesn't overlap with any existing aliases
-        if (aliasToNTPath.containsKey(alias)) {
+        // Checking that the alias doesn't overlap with any existing aliases.
+        // setParentIfAbsent records the alias in the same step.
+        int aliasId = keys.intern(alias);
+        int existingPath = keys.setParentIfAbsent(aliasId, keys.intern(ntPath));
+        if (existingPath >= 0) {
             DriverStation.reportWarning("Alias \"" + alias
                     + "\" cannot be created because it is already an alias for key \""
-                    + aliasToNTPath.get(alias) + "\".", false);
+                    + keys.key(existingPath) + "\".", false);
             return;
         }
 
-        // Recording the alias in the aliasToNTKey table.
-        aliasToNTPath.put(alias, ntPath);
+        // Recording the alias in the ntPathToAliases table. This is done inside
+        // compute so it can't race with removeAlias dropping an empty set.
+        ntPathToAliases.compute(ntPath, (path, aliases) -> {
+            if (aliases == null) {
+                aliases = ConcurrentHashMap.newKeySet();
+            }
+
+            aliases.add(alias);
+            return aliases;
+        });
+
+        // Dropping any handle the alias had from being used as a path before
+        LogHandle handle = keys.removeHandle(aliasId);
+        if (handle != null) {
+            if (handle.owner == handle) {
+                handle.close();
+            }
+
+            handle.detach();
+        }
 
-        // Adding the alias to the lastReads table
-        lastReads.put(alias, 0l);
+        keyVersion.incrementAndGet();
     }
 
     /**
@@ -706,12 +2275,27 @@ public class TurboLogger {
      * @param alias The alias to remove.
      */
     public static void removeAlias(String alias) {
-        // Making sure the parameter is an alias
-        if (!aliasToNTPath.containsKey(alias))
+        // Removing the alias from the maps, making sure the parameter is an alias
+        int aliasId = keys.find(alias);
+        if (aliasId < 0)
+            return;
+
+        int pathId = keys.removeParent(aliasId);
+        if (pathId < 0)
             return;
 
-        // Removing the alias from the maps
-        aliasToNTPath.remove(alias);
-        lastReads.remove(alias);
+        String ntPath = keys.key(pathId);
+
+        LogHandle handle = keys.removeHandle(aliasId);
+        if (handle != null) {
+            handle.detach();
+        }
+
+        keyVersion.incrementAndGet();
+
+        ntPathToAliases.computeIfPresent(ntPath, (path, aliases) -> {
+            aliases.remove(alias);
+            return aliases.isEmpty() ? null : aliases;
+        });
     }
 }
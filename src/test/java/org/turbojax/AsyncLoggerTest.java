@@ -0,0 +1,140 @@
+package org.turbojax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.NetworkTableType;
+import edu.wpi.first.networktables.Publisher;
+import edu.wpi.first.networktables.Subscriber;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogEntry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Fills an async queue while its drain thread is held and checks what each
+ * overflow policy does with the value that doesn't fit.
+ */
+class AsyncLoggerTest {
+    /**
+     * A handle that records the values it publishes. The first publish holds the
+     * drain thread until the test releases it, so the queue can be filled.
+     */
+    private static final class GateHandle extends LogHandle {
+        final List<Long> published = new CopyOnWriteArrayList<>();
+        final CountDownLatch draining = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        GateHandle(String key) {
+            super(key, NetworkTableType.kInteger, NetworkTableInstance.getDefault().getTopic(key), null);
+        }
+
+        @Override
+        Publisher createPublisher() {
+            return null;
+        }
+
+        @Override
+        Subscriber createSubscriber() {
+            return null;
+        }
+
+        @Override
+        void publish(long bits, Object ref, long time) {
+            draining.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException err) {
+                Thread.currentThread().interrupt();
+            }
+
+            published.add(bits);
+        }
+
+        @Override
+        DataLogEntry createEntry(DataLog log, String name) {
+            return null;
+        }
+
+        @Override
+        void append(DataLogEntry entry, long bits, Object ref, long time) {}
+    }
+
+    @BeforeAll
+    static void startNetworkTables() {
+        // Running NT locally so the test doesn't need a robot or a server
+        NetworkTableInstance.getDefault().startLocal();
+    }
+
+    /**
+     * Holds the drain thread on value 0 and then fills the queue with 1 and 2.
+     *
+     * @param async The logger, with a capacity of 2.
+     * @param key   The key for the handle.
+     *
+     * @return The handle the values were logged through.
+     */
+    private static GateHandle fill(AsyncLogger async, String key) throws InterruptedException {
+        GateHandle handle = new GateHandle(key);
+
+        async.enqueue(handle, 0, null, 1);
+        assertTrue(handle.draining.await(5, TimeUnit.SECONDS), "The drain thread never took the first value");
+
+        async.enqueue(handle, 1, null, 1);
+        async.enqueue(handle, 2, null, 1);
+        return handle;
+    }
+
+    @Test
+    void dropNewestKeepsTheQueue() throws InterruptedException {
+        AsyncLogger async = new AsyncLogger(2, OverflowPolicy.DROP_NEWEST);
+        GateHandle handle = fill(async, "AsyncTest/DropNewest");
+
+        async.enqueue(handle, 3, null, 1);
+        assertEquals(1L, async.getDroppedCount());
+
+        handle.release.countDown();
+        async.stop();
+        assertEquals(List.of(0L, 1L, 2L), handle.published);
+    }
+
+    @Test
+    void dropOldestMakesRoom() throws InterruptedException {
+        AsyncLogger async = new AsyncLogger(2, OverflowPolicy.DROP_OLDEST);
+        GateHandle handle = fill(async, "AsyncTest/DropOldest");
+
+        async.enqueue(handle, 3, null, 1);
+        assertEquals(1L, async.getDroppedCount());
+
+        handle.release.countDown();
+        async.stop();
+        assertEquals(List.of(0L, 2L, 3L), handle.published);
+    }
+
+    @Test
+    void blockWaitsForRoom() throws InterruptedException {
+        AsyncLogger async = new AsyncLogger(2, OverflowPolicy.BLOCK);
+        GateHandle handle = fill(async, "AsyncTest/Block");
+
+        Thread writer = new Thread(() -> async.enqueue(handle, 3, null, 1), "AsyncLoggerTest writer");
+        writer.start();
+
+        // The queue can't drain, so the writer has to still be waiting
+        writer.join(100);
+        assertTrue(writer.isAlive(), "The writer didn't wait for room in the queue");
+
+        handle.release.countDown();
+        writer.join(5000);
+        assertFalse(writer.isAlive(), "The writer never got room in the queue");
+
+        async.stop();
+        assertEquals(0L, async.getDroppedCount());
+        assertEquals(List.of(0L, 1L, 2L, 3L), handle.published);
+    }
+}
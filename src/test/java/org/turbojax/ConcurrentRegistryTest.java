@@ -0,0 +1,139 @@
+package org.turbojax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs log, get, addAlias, removeAlias and remove from several threads at once
+ * and checks that the key and alias registry ends up consistent.
+ */
+class ConcurrentRegistryTest {
+    private static final int THREADS = 8;
+    private static final int KEYS_PER_THREAD = 32;
+    private static final int ITERATIONS = 2000;
+
+    private static final String SHARED = "Stress/Shared";
+
+    @BeforeAll
+    static void startNetworkTables() {
+        // Running NT locally so the test doesn't need a robot or a server
+        NetworkTableInstance.getDefault().startLocal();
+    }
+
+    private static String key(int thread, int index) {
+        return "Stress/T" + thread + "/K" + index;
+    }
+
+    private static String alias(int thread, int index) {
+        return "stressAlias/T" + thread + "/K" + index;
+    }
+
+    @Test
+    void concurrentLogsAndAliasChangesKeepEveryHandle() throws Exception {
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        Thread[] threads = new Thread[THREADS];
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    run(thread);
+                } catch (Throwable err) {
+                    failures.add(err);
+                }
+            }, "TurboLogger stress " + t);
+            threads[t].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), () -> "Threads failed: " + failures);
+
+        // Every thread finished with each of its keys logged and aliased, so
+        // nothing another thread did should have lost a handle or an alias
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                String key = key(t, i);
+                String alias = alias(t, i);
+                double expected = ITERATIONS - 1;
+
+                assertNotNull(TurboLogger.keys.handle(key), key);
+                assertEquals(TurboLogger.keys.find(key), TurboLogger.keys.parent(TurboLogger.keys.find(alias)), alias);
+                assertEquals(expected, TurboLogger.get(key, Double.NaN), key);
+                assertEquals(expected, TurboLogger.get(alias, Double.NaN), alias);
+            }
+        }
+
+        // The shared path was removed and logged to again while other threads
+        // used it, so it only has to still work
+        TurboLogger.log(SHARED, -1.0);
+        assertEquals(-1.0, TurboLogger.get(SHARED, Double.NaN));
+    }
+
+    /**
+     * The work done by each thread. Each thread owns its keys, so it can check
+     * its own reads, and every thread also hammers one shared path.
+     *
+     * @param thread The thread's index.
+     */
+    private static void run(int thread) {
+        String sharedAlias = "stressShared" + thread;
+
+        for (int n = 0; n < ITERATIONS; n++) {
+            int index = n % KEYS_PER_THREAD;
+            String key = key(thread, index);
+            String alias = alias(thread, index);
+
+            TurboLogger.log(key, (double) n);
+            if (TurboLogger.keys.parent(TurboLogger.keys.intern(alias)) < 0) {
+                TurboLogger.addAlias(key, alias);
+            }
+
+            assertEquals(n, TurboLogger.get(alias, Double.NaN), alias);
+            TurboLogger.hasChanged(alias);
+
+            // Dropping and re-adding aliases and whole paths while other threads
+            // do the same to theirs
+            if (n % 3 == 0) {
+                TurboLogger.removeAlias(alias);
+            }
+
+            if (n % 7 == 0 && n < ITERATIONS - KEYS_PER_THREAD) {
+                TurboLogger.remove(key);
+            }
+
+            TurboLogger.log(SHARED, (double) n);
+            TurboLogger.addAlias(SHARED, sharedAlias);
+            TurboLogger.get(sharedAlias, Double.NaN);
+            TurboLogger.removeAlias(sharedAlias);
+
+            if (thread == 0 && n % 50 == 0) {
+                TurboLogger.remove(SHARED);
+            }
+        }
+
+        // Leaving every key logged and aliased for the checks after the threads
+        // finish
+        for (int i = 0; i < KEYS_PER_THREAD; i++) {
+            String key = key(thread, i);
+            String alias = alias(thread, i);
+
+            TurboLogger.log(key, (double) (ITERATIONS - 1));
+            if (TurboLogger.keys.parent(TurboLogger.keys.intern(alias)) < 0) {
+                TurboLogger.addAlias(key, alias);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.turbojax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import edu.wpi.first.networktables.NetworkTableInstance;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that a {@link Logged} field hidden by a subclass field with the same
+ * name is skipped, both by the generated loggers and by logObject.
+ */
+class HiddenFieldTest {
+    static class Wheel {
+        @Logged
+        double speed;
+
+        Wheel(double speed) {
+            this.speed = speed;
+        }
+    }
+
+    static class Base {
+        @Logged
+        double position = 1.0;
+
+        @Logged
+        Wheel wheel = new Wheel(1.0);
+    }
+
+    static class Sub extends Base {
+        // Hiding both of Base's fields. The generated logger used to declare
+        // wheelLogger twice, so this class didn't compile.
+        @Logged
+        double position = 2.0;
+
+        @Logged
+        Wheel wheel = new Wheel(2.0);
+    }
+
+    @BeforeAll
+    static void startNetworkTables() {
+        // Running NT locally so the test doesn't need a robot or a server
+        NetworkTableInstance.getDefault().startLocal();
+    }
+
+    @Test
+    void generatedLoggerSkipsHiddenFields() {
+        new HiddenFieldTest_SubLogger("HiddenField/Generated").log(new Sub());
+
+        // The superclass's values were logged last, so they used to win
+        assertEquals(2.0, TurboLogger.get("HiddenField/Generated/position", Double.NaN));
+        assertEquals(2.0, TurboLogger.get("HiddenField/Generated/wheel/speed", Double.NaN));
+    }
+
+    @Test
+    void logObjectSkipsHiddenFields() {
+        TurboLogger.logObject("HiddenField/Reflected", new Sub());
+
+        assertEquals(2.0, TurboLogger.get("HiddenField/Reflected/position", Double.NaN));
+        assertEquals(2.0, TurboLogger.get("HiddenField/Reflected/wheel/speed", Double.NaN));
+    }
+}
@@ -0,0 +1,64 @@
+package org.turbojax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/** Checks that policies reject limits that make no sense and keep the rest. */
+class LogPolicyTest {
+    @Test
+    void factoriesRejectInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> LogPolicy.maxRate(0));
+        assertThrows(IllegalArgumentException.class, () -> LogPolicy.maxRate(-5));
+        assertThrows(IllegalArgumentException.class, () -> LogPolicy.maxRate(Double.NaN));
+
+        assertThrows(IllegalArgumentException.class, () -> LogPolicy.everyNth(0));
+        assertThrows(IllegalArgumentException.class, () -> LogPolicy.everyNth(-2));
+
+        assertThrows(IllegalArgumentException.class, () -> LogPolicy.minDelta(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> LogPolicy.minDelta(Double.NaN));
+    }
+
+    @Test
+    void combiningRejectsInvalidLimits() {
+        LogPolicy policy = LogPolicy.everyNth(2);
+
+        assertThrows(IllegalArgumentException.class, () -> policy.withMaxRate(0));
+        assertThrows(IllegalArgumentException.class, () -> policy.withEveryNth(0));
+        assertThrows(IllegalArgumentException.class, () -> policy.withMinDelta(-1));
+    }
+
+    @Test
+    void factoriesOnlySetTheirOwnLimit() {
+        LogPolicy rate = LogPolicy.maxRate(5);
+        assertEquals(200_000_000L, rate.minPeriodNanos);
+        assertEquals(1, rate.everyNth);
+        assertEquals(0.0, rate.minDelta);
+
+        LogPolicy nth = LogPolicy.everyNth(4);
+        assertEquals(0L, nth.minPeriodNanos);
+        assertEquals(4, nth.everyNth);
+        assertEquals(0.0, nth.minDelta);
+
+        // A zero delta is allowed and publishes any change
+        LogPolicy delta = LogPolicy.minDelta(0);
+        assertEquals(0L, delta.minPeriodNanos);
+        assertEquals(1, delta.everyNth);
+        assertEquals(0.0, delta.minDelta);
+    }
+
+    @Test
+    void combinedLimitsKeepEachOther() {
+        LogPolicy base = LogPolicy.maxRate(10);
+        LogPolicy combined = base.withEveryNth(3).withMinDelta(0.01);
+
+        assertEquals(100_000_000L, combined.minPeriodNanos);
+        assertEquals(3, combined.everyNth);
+        assertEquals(0.01, combined.minDelta);
+
+        // Policies are shared between keys, so combining can't change the original
+        assertEquals(1, base.everyNth);
+        assertEquals(0.0, base.minDelta);
+    }
+}
@@ -0,0 +1,98 @@
+package org.turbojax;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.util.struct.Struct;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that records without a struct field pack and unpack to the same
+ * value, and that their schemas name nested records the way NetworkTables
+ * expects.
+ */
+class RecordStructTest {
+    // Nested in the test class, so their binary names have a dollar sign
+    record Point(double x, double y) {}
+
+    record Sample(boolean valid, byte flags, short count, int id, long time, float heading, Point position) {}
+
+    record Segment(Point start, Point end) {}
+
+    record Named(String name) {}
+
+    record Letter(char letter) {}
+
+    record Outer(Segment segment, int index) {}
+
+    @SuppressWarnings("unchecked")
+    private static <R> Struct<R> struct(Class<R> type) {
+        Struct<R> struct = (Struct<R>) RecordStruct.create(type);
+        assertNotNull(struct, type.getName());
+        return struct;
+    }
+
+    private static <R> R roundTrip(Class<R> type, R value) {
+        Struct<R> struct = struct(type);
+
+        // Structs are packed little endian, like WPILib does
+        ByteBuffer buffer = ByteBuffer.allocate(struct.getSize()).order(ByteOrder.LITTLE_ENDIAN);
+        struct.pack(buffer, value);
+        assertEquals(struct.getSize(), buffer.position());
+
+        buffer.flip();
+        return struct.unpack(buffer);
+    }
+
+    @Test
+    void primitivesRoundTrip() {
+        Point point = new Point(1.5, -2.25);
+        assertEquals(point, roundTrip(Point.class, point));
+
+        Sample sample = new Sample(true, (byte) -7, (short) 1234, 42, Long.MIN_VALUE, 3.5f, point);
+        assertEquals(sample, roundTrip(Sample.class, sample));
+    }
+
+    @Test
+    void nestedRecordsRoundTrip() {
+        Segment segment = new Segment(new Point(0, 1), new Point(2, 3));
+        assertEquals(segment, roundTrip(Segment.class, segment));
+
+        Outer outer = new Outer(segment, 9);
+        assertEquals(outer, roundTrip(Outer.class, outer));
+    }
+
+    @Test
+    void typeNamesUseTheBinaryName() {
+        assertEquals("org_turbojax_RecordStructTest_Point", struct(Point.class).getTypeName());
+        assertEquals("org_turbojax_RecordStructTest_Segment", struct(Segment.class).getTypeName());
+    }
+
+    @Test
+    void schemasNameEveryComponent() {
+        Struct<Sample> sample = struct(Sample.class);
+        assertEquals("bool valid;int8 flags;int16 count;int32 id;int64 time;float heading;"
+                + "org_turbojax_RecordStructTest_Point position", sample.getSchema());
+        assertEquals(1 + 1 + 2 + 4 + 8 + 4 + 16, sample.getSize());
+        assertTrue(sample.isImmutable());
+
+        // A record used by more than one component is only nested once
+        Struct<Segment> segment = struct(Segment.class);
+        assertEquals("org_turbojax_RecordStructTest_Point start;org_turbojax_RecordStructTest_Point end",
+                segment.getSchema());
+        assertEquals(1, segment.getNested().length);
+        assertEquals("org_turbojax_RecordStructTest_Point", segment.getNested()[0].getTypeName());
+        assertEquals(32, segment.getSize());
+    }
+
+    @Test
+    void unsupportedComponentsHaveNoStruct() {
+        assertNull(RecordStruct.create(Named.class));
+        assertNull(RecordStruct.create(Letter.class));
+        assertNull(RecordStruct.create(String.class));
+    }
+}